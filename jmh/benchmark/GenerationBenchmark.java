@@ -0,0 +1,48 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import model.GenerationAlgorithmStrategy;
+import model.Labyrinth;
+import model.solvingAlgorithm.AStar;
+
+/**
+ * Benchmark of the generation algorithms<br>
+ * Each invocation generates a new labyrinth of size x size cells with the same seed
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GenerationBenchmark {
+	@Param({"AldousBroder", "BinaryTree", "SideWinder", "RecursiveBacktracking", "GrowingTree", "HuntAndKill", "RecursiveDivision", "Prim", "Wilson"})
+	private String generator;
+	
+	@Param({"16", "64", "256", "1024", "2048"})
+	private int size;
+	
+	private GenerationAlgorithmStrategy algorithm;
+	
+	@Setup
+	public void setup() throws ReflectiveOperationException {
+		this.algorithm = Class.forName("model.generationAlgorithm." + this.generator).asSubclass(GenerationAlgorithmStrategy.class).getConstructor().newInstance();
+	}
+	
+	@Benchmark
+	public Labyrinth generate() {
+		Labyrinth labyrinth = new Labyrinth(this.size, this.size, this.algorithm, new AStar(), false);
+		labyrinth.generate(42, false);
+		return labyrinth;
+	}
+}
@@ -0,0 +1,56 @@
+package benchmark;
+
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import model.Labyrinth;
+import model.SolvingAlgorithmStrategy;
+import model.SolvingContext;
+import model.generationAlgorithm.GrowingTree;
+import model.util.Position;
+
+/**
+ * Benchmark of the solving algorithms<br>
+ * The labyrinth of size x size cells is generated once per trial (with the growing tree algorithm), each invocation searches the path
+ * from the top-left corner to the bottom-right corner<br>
+ * The solving algorithm is called directly with the same {@link SolvingContext}, so the scratch buffers are allocated once per trial and only the search is measured
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SolvingBenchmark {
+	@Param({"AStar", "Dijkstra", "BreadthFirstSearch", "BidirectionalSearch"})
+	private String solver;
+	
+	@Param({"16", "64", "256", "1024", "2048"})
+	private int size;
+	
+	private Labyrinth labyrinth;
+	private SolvingAlgorithmStrategy solverInstance;
+	private SolvingContext context;
+	
+	@Setup
+	public void setup() throws ReflectiveOperationException {
+		this.solverInstance = Class.forName("model.solvingAlgorithm." + this.solver).asSubclass(SolvingAlgorithmStrategy.class).getConstructor().newInstance();
+		this.labyrinth = new Labyrinth(this.size, this.size, new Position(0, 0), new Position(this.size - 1, this.size - 1), new GrowingTree(), this.solverInstance, true, true);
+		this.labyrinth.generate(42, false);
+		this.context = new SolvingContext();
+	}
+	
+	@Benchmark
+	public Queue<Position> solve() {
+		return this.solverInstance.getPath(this.labyrinth, this.context);
+	}
+}
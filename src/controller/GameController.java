@@ -1,14 +1,22 @@
 package controller;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.Queue;
-import java.util.Timer;
-import java.util.TimerTask;
 
 import model.Cell;
 import model.CellValue;
 import model.Labyrinth;
+import model.LabyrinthFile;
+import model.LabyrinthTextRenderer;
 import model.util.Direction;
+import model.util.IntList;
 import model.util.Position;
+import view.FrameMetrics;
 import view.GameView;
 
 /**
@@ -21,12 +29,14 @@ import view.GameView;
 public class GameController {
 	private Labyrinth labyrinth;
 	private GameView view;
-	private Thread threadCheckBlocked;
+	private final GameLoop loop = new GameLoop();
+	private volatile boolean checkBlockedPending = false;
 	private boolean useThreadedCheckBlocked = true;
+	private LabyrinthTextRenderer textRenderer = new LabyrinthTextRenderer();
+	private final FrameMetrics frameMetrics = new FrameMetrics();
 	// Autoplayer
-	private Queue<Position> pathAuto;
-	private Timer timerAuto;
-	private Thread threadAuto;
+	private volatile Queue<Position> pathAuto;
+	private volatile GameLoop.Task taskAuto;
 	
 	public GameController(Labyrinth labyrinth, GameView view) {
 		super();
@@ -34,6 +44,22 @@ public class GameController {
 		this.view = view;
 	}
 	
+	/**
+	 * Construct a controller without any view, to play a labyrinth headless (simulations, benchmarks)
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 */
+	public GameController(Labyrinth labyrinth) {
+		this(labyrinth, null);
+	}
+	
+	/**
+	 * Get the measures of the rendering of the frames of the game, recorded by the graphical view if there is one
+	 * @return ({@link FrameMetrics}) The measures
+	 */
+	public FrameMetrics getFrameMetrics() {
+		return this.frameMetrics;
+	}
+	
 	/**
 	 * {@link model.Labyrinth#getWidth()}
 	 */
@@ -148,41 +174,51 @@ public class GameController {
 	}
 	
 	private boolean moveTo(Direction direction) {
+		return this.moveTo(direction, true);
+	}
+	
+	/**
+	 * Move the player
+	 * @param direction (Direction) The direction
+	 * @param checkBlocked (boolean) true to check if the player is blocked after the move, false otherwise (the auto player follows a path to the exit)
+	 * @return (boolean) true if the player moved successfully, false otherwise
+	 */
+	private boolean moveTo(Direction direction, boolean checkBlocked) {
 		boolean moved = false;
 		
 		if(!labyrinth.getPlayer().goalAchieved()) moved = labyrinth.getPlayer().moveTo(direction);
 		
-		if(this.useThreadedCheckBlocked) {
-			this.createThreadCheckBlocked();
-		} else {
-			this.labyrinth.getPlayer().checkBlocked();
+		if(checkBlocked && !this.labyrinth.isConnectivityIndexEnabled()) { // Otherwise the connectivity index is updated by the move
+			if(this.useThreadedCheckBlocked) {
+				this.requestCheckBlocked();
+			} else {
+				this.labyrinth.getPlayer().checkBlocked();
+			}
 		}
 		
-		view.update(moved);
+		if(view != null) view.update(moved);
 		
 		return moved;
 	}
 	
-	private void createThreadCheckBlocked() {
-		this.stopThreadCheckBlocked();
-		
-		this.threadCheckBlocked = new Thread(() -> {
-			this.labyrinth.getPlayer().checkBlocked();
-		});
+	/**
+	 * Check if the player is blocked on the game loop : the check in progress is stopped, and the checks requested before the next one is run are merged
+	 */
+	private void requestCheckBlocked() {
+		this.labyrinth.getPlayer().stopCheckBlocked();
 		
-		this.threadCheckBlocked.setDaemon(true);
-		this.threadCheckBlocked.start();
+		if(!this.checkBlockedPending) {
+			this.checkBlockedPending = true;
+			
+			this.loop.execute(() -> {
+				this.checkBlockedPending = false;
+				this.labyrinth.getPlayer().checkBlocked();
+			});
+		}
 	}
 	
-	private void stopThreadCheckBlocked() {
-		if(this.threadCheckBlocked != null) {
-			try {
-				this.labyrinth.getPlayer().stopCheckBlocked();
-				threadCheckBlocked.join();
-			} catch (InterruptedException e) {
-				e.printStackTrace();
-			}
-		}
+	private void stopCheckBlocked() {
+		this.labyrinth.getPlayer().stopCheckBlocked();
 	}
 	
 	/**
@@ -232,7 +268,25 @@ public class GameController {
 	 * Display the labyrinth in the console
 	 */
 	public void displayTextLabyrinth() {
-		System.out.println(labyrinth);
+		PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+		
+		try {
+			this.displayTextLabyrinth(out);
+		} catch(IOException e) {
+			e.printStackTrace();
+		}
+		
+		out.println();
+		out.flush(); // Not closed : System.out stays open
+	}
+	
+	/**
+	 * Write the labyrinth as text, row by row ({@link model.LabyrinthTextRenderer})
+	 * @param out (Appendable) The output
+	 * @throws IOException If the output can't be written
+	 */
+	public void displayTextLabyrinth(Appendable out) throws IOException {
+		this.textRenderer.render(this.labyrinth, out);
 	}
 
 	/**
@@ -244,6 +298,34 @@ public class GameController {
 		labyrinth.generate(seed, stepByStep);
 	}
 	
+	/**
+	 * Save the labyrinth in a file ({@link model.LabyrinthFile#save(Labyrinth labyrinth, Path path)})
+	 * @param path ({@link Path}) The file
+	 * @throws IOException If the file can't be written
+	 */
+	public void saveLabyrinth(Path path) throws IOException {
+		LabyrinthFile.save(this.labyrinth, path);
+	}
+	
+	/**
+	 * Load a labyrinth from a file and play it, with the same solving algorithm as the current labyrinth ({@link model.LabyrinthFile#load(Path path, model.SolvingAlgorithmStrategy solver, boolean enableAutoPlayer)})
+	 * @param path ({@link Path}) The file
+	 * @return ({@link Labyrinth}) The labyrinth loaded
+	 * @throws IOException If the file can't be read or is not a labyrinth file
+	 */
+	public Labyrinth loadLabyrinth(Path path) throws IOException {
+		Labyrinth loaded = LabyrinthFile.load(path, this.labyrinth.getSolvingAlgorithm(), this.labyrinth.isAutoPlayerEnabled());
+		loaded.setConnectivityIndexEnabled(this.labyrinth.isConnectivityIndexEnabled());
+		
+		this.stopAutoPlayer();
+		this.stopCheckBlocked();
+		this.labyrinth = loaded;
+		this.pathAuto = null;
+		if(this.view != null) this.view.update(false);
+		
+		return loaded;
+	}
+	
 	/**
 	 * {@link model.Labyrinth#isSearchingPath()}
 	 */
@@ -255,7 +337,17 @@ public class GameController {
 	 * Exit properly the controller (end threads, etc.)
 	 */
 	public void exit() {
-		this.stopThreadCheckBlocked();
+		this.stopCheckBlocked();
+		this.loop.stop();
+	}
+	
+	/**
+	 * Get the scheduler of the game, running the moves of the auto player and the blocked player checks<br>
+	 * Its tick rate is the speed of the auto player (one move per tick)
+	 * @return ({@link GameLoop}) The game loop
+	 */
+	public GameLoop getGameLoop() {
+		return this.loop;
 	}
 	
 	/**
@@ -291,6 +383,50 @@ public class GameController {
 		return this.labyrinth.isGenerationFinished();
 	}
 	
+	/**
+	 * {@link model.Labyrinth#getValue(int index)}
+	 * @param index (int) The index of the cell (<code>y * width + x</code>)
+	 * @return ({@link CellValue})
+	 */
+	public CellValue getCellValue(int index) {
+		return this.labyrinth.getValue(index);
+	}
+	
+	/**
+	 * {@link model.Labyrinth#getWallsVersion()}
+	 * @return (long)
+	 */
+	public long getWallsVersion() {
+		return this.labyrinth.getWallsVersion();
+	}
+	
+	/**
+	 * {@link model.Labyrinth#getValuesVersion()}
+	 * @return (long)
+	 */
+	public long getValuesVersion() {
+		return this.labyrinth.getValuesVersion();
+	}
+	
+	/**
+	 * {@link model.Labyrinth#getChangedCells(long from, long to, IntList cells)}
+	 * @param from (long)
+	 * @param to (long)
+	 * @param cells ({@link IntList})
+	 * @return (boolean)
+	 */
+	public boolean getChangedCells(long from, long to, IntList cells) {
+		return this.labyrinth.getChangedCells(from, to, cells);
+	}
+	
+	/**
+	 * {@link model.Labyrinth#getJunctions()}
+	 * @return (byte[])
+	 */
+	public byte[] getJunctions() {
+		return this.labyrinth.getJunctions();
+	}
+	
 	/**
 	 * {@link model.Labyrinth#getAllCellsAround()}
 	 * @return (boolean)
@@ -300,74 +436,101 @@ public class GameController {
 	}
 	
 	/**
-	 * Start the auto-player mode (using chosen pathfinding/solving algorithm)<br>
+	 * Start the auto-player mode (using chosen pathfinding/solving algorithm) : the player moves once per tick of the {@link GameLoop}<br>
 	 * Fails if the generation of the labyrinth is still in process, if the auto-player is disabled for this labyrinth or if the player is blocked
 	 */
 	public void enableAutoPlayer() {
-		if(!this.searchingPath() && !this.isPlayerBlocked() && this.isGenerationFinished() && this.isAutoPlayerEnabled() && this.threadAuto == null) {
+		this.enableAutoPlayer(null);
+	}
+	
+	/**
+	 * Start the auto-player mode following a path already found, instead of searching it<br>
+	 * Fails if the generation of the labyrinth is still in process, if the auto-player is disabled for this labyrinth or if the player is blocked
+	 * @param path ({@link Queue} of {@link Position}) The path from the position of the player to the end position (copied), null to search it with the solving algorithm of the labyrinth
+	 */
+	public void enableAutoPlayer(Queue<Position> path) {
+		if(!this.searchingPath() && !this.isPlayerBlocked() && this.isGenerationFinished() && this.isAutoPlayerEnabled() && this.taskAuto == null) {
 			stopAutoPlayer();
 			this.setAutoPlayer(true);
-	
-			this.threadAuto = new Thread(() -> {
+			
+			if(path != null) {
+				Queue<Position> pathAuto = new ArrayDeque<>(path);
+				pathAuto.poll(); // The position of the player
+				this.pathAuto = pathAuto;
+			} else {
+				this.pathAuto = null; // The player may have moved since the last path
+			}
+			
+			GameLoop.Task task = this::autoPlayerTick;
+			this.taskAuto = task;
+			
+			// The path is searched on the game loop, then the auto player moves at each tick
+			this.loop.execute(() -> {
 				if(this.pathAuto == null) {
-					this.pathAuto = this.getPath();
-					if(this.pathAuto != null && !this.pathAuto.isEmpty()) this.pathAuto.poll();
+					Queue<Position> found = this.getPath();
+					
+					if(found == null) { // No path, or the search was stopped
+						if(this.taskAuto == task) this.stopAutoPlayer();
+						return;
+					}
+					
+					if(!found.isEmpty()) found.poll();
+					this.pathAuto = found;
 				}
-			
-				this.timerAuto = new Timer(true);
 				
-				this.timerAuto.scheduleAtFixedRate(new TimerTask() {
-					@Override
-					public void run() {
-						if(!view.isExited()) {
-							if(!isGoalAchieved() && pathAuto != null && !pathAuto.isEmpty()) {
-								Position next = pathAuto.poll();
-								Position current = getPlayerPosition();
-								
-								if(next != null) {
-									if(next.getX() == current.getX() - 1) {
-										moveTo(Direction.WEST);
-									} else if(next.getX() == current.getX() + 1) {
-										moveTo(Direction.EAST);
-									} else if(next.getY() == current.getY() - 1) {
-										moveTo(Direction.NORTH);
-									} else if(next.getY() == current.getY() + 1) {
-										moveTo(Direction.SOUTH);
-									}
-								} else {
-									stopAutoPlayer();
-								}
-							}
-						} else {
-							stopAutoPlayer();
-						}
-					}
-				}, 0, 250);
+				if(this.taskAuto == task) this.loop.schedule(task);
 			});
-
-			this.threadAuto.setDaemon(true);
-			this.threadAuto.start();
 		}
 	}
 	
 	/**
-	 * Stop the auto-player mode
+	 * Move the auto player to the next position of its path
+	 * @return (boolean) true to move again at the next tick, false otherwise
 	 */
-	public void stopAutoPlayer() {
-		this.setAutoPlayer(false);
+	private boolean autoPlayerTick() {
+		if(view != null && view.isExited()) {
+			stopAutoPlayer();
+			return false;
+		}
+		
+		Queue<Position> path = this.pathAuto;
 		
-		if(this.timerAuto != null) {
-			this.timerAuto.cancel();
-			this.timerAuto.purge();
+		if(path == null) {
+			stopAutoPlayer();
+			return false;
 		}
 		
-		if(this.threadAuto != null) {
-			try {
-				this.setAutoPlayer(false);
-				this.threadAuto.join();
-			} catch (InterruptedException e) {
-				e.printStackTrace();
-			}
+		if(isGoalAchieved() || path.isEmpty()) return false;
+		
+		Position next = path.poll();
+		Position current = getPlayerPosition();
+		
+		if(next == null) {
+			stopAutoPlayer();
+			return false;
+		}
+		
+		if(next.getX() == current.getX() - 1) {
+			moveTo(Direction.WEST, false);
+		} else if(next.getX() == current.getX() + 1) {
+			moveTo(Direction.EAST, false);
+		} else if(next.getY() == current.getY() - 1) {
+			moveTo(Direction.NORTH, false);
+		} else if(next.getY() == current.getY() + 1) {
+			moveTo(Direction.SOUTH, false);
 		}
+		
+		return true;
+	}
+	
+	/**
+	 * Stop the auto-player mode
+	 */
+	public void stopAutoPlayer() {
+		this.setAutoPlayer(false);
+		
+		GameLoop.Task task = this.taskAuto;
+		this.taskAuto = null;
+		if(task != null) this.loop.cancel(task);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,244 @@
+package controller;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The scheduler of the simulation of a game : a single thread running the {@link Task} at a fixed tick rate (moves of the auto player)
+ * and the actions requested between the ticks (blocked player checks)<br>
+ * The thread is started when a task or an action is submitted and ends when there is nothing left to run, so no thread is created per move<br>
+ * In the "max speed" mode, the ticks are run without waiting (replays without a view)
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class GameLoop {
+	/**
+	 * The default number of ticks per second (one move of the auto player every 250 ms)
+	 */
+	public static final double DEFAULT_TICK_RATE = 4;
+	
+	private final List<Task> tasks = new ArrayList<>();
+	private final List<Task> cancelled = new ArrayList<>(); // Tasks cancelled during the current tick
+	private final ArrayDeque<Runnable> actions = new ArrayDeque<>();
+	private volatile long tickPeriod; // ns
+	private volatile boolean maxSpeed = false;
+	private Thread thread;
+	private boolean ticking = false;
+	private long tickCount = 0;
+	
+	/**
+	 * A task run at each tick of the loop
+	 * @author Eliastik
+	 * @version 1.1
+	 * @since 17/10/2026
+	 */
+	@FunctionalInterface
+	public interface Task {
+		/**
+		 * Run a tick of the task
+		 * @return (boolean) true to run the task at the next tick, false if the task is finished
+		 */
+		boolean tick();
+	}
+	
+	/**
+	 * Construct a new loop
+	 * @param tickRate (double) The number of ticks per second
+	 */
+	public GameLoop(double tickRate) {
+		this.setTickRate(tickRate);
+	}
+	
+	/**
+	 * Construct a new loop, with the {@link #DEFAULT_TICK_RATE}
+	 */
+	public GameLoop() {
+		this(DEFAULT_TICK_RATE);
+	}
+	
+	/**
+	 * Run a task at each tick, from the next tick
+	 * @param task ({@link Task}) The task
+	 */
+	public synchronized void schedule(Task task) {
+		this.tasks.add(task);
+		this.start();
+	}
+	
+	/**
+	 * Stop running a task : when this method returns, the task is not running and will not run again
+	 * @param task ({@link Task}) The task
+	 */
+	public synchronized void cancel(Task task) {
+		if(this.ticking) {
+			this.cancelled.add(task); // Called by a task
+		} else {
+			this.tasks.remove(task);
+		}
+	}
+	
+	/**
+	 * Run an action once on the thread of the loop, as soon as possible (before the next tick)
+	 * @param action (Runnable) The action
+	 */
+	public synchronized void execute(Runnable action) {
+		this.actions.add(action);
+		this.start();
+	}
+	
+	/**
+	 * Remove all the tasks and the actions not yet run : the thread of the loop ends
+	 */
+	public synchronized void stop() {
+		if(this.ticking) {
+			this.cancelled.addAll(this.tasks);
+		} else {
+			this.tasks.clear();
+		}
+		
+		this.actions.clear();
+		if(this.thread != null) LockSupport.unpark(this.thread);
+	}
+	
+	private void start() {
+		if(this.thread == null) {
+			this.thread = new Thread(this::run, "game-loop");
+			this.thread.setDaemon(true);
+			this.thread.start();
+		} else {
+			LockSupport.unpark(this.thread); // Run the new actions now
+		}
+	}
+	
+	private void run() {
+		long nextTick = System.nanoTime();
+		
+		while(true) {
+			Runnable action;
+			
+			synchronized(this) {
+				if(this.tasks.isEmpty() && this.actions.isEmpty()) {
+					this.thread = null;
+					this.notifyAll(); // See awaitIdle()
+					return;
+				}
+				
+				action = this.actions.poll();
+			}
+			
+			if(action != null) {
+				try {
+					action.run();
+				} catch(RuntimeException e) {
+					e.printStackTrace();
+				}
+				
+				continue;
+			}
+			
+			long now = System.nanoTime();
+			
+			if(!this.maxSpeed && now < nextTick) {
+				LockSupport.parkNanos(this, nextTick - now);
+				continue;
+			}
+			
+			this.tick();
+			
+			// A late loop does not run the missed ticks all at once
+			nextTick = Math.max(nextTick + this.tickPeriod, now);
+		}
+	}
+	
+	private synchronized void tick() {
+		this.ticking = true;
+		
+		try {
+			for(int i = 0; i < this.tasks.size(); i++) {
+				Task task = this.tasks.get(i);
+				
+				try {
+					if(!this.cancelled.contains(task) && !task.tick()) this.cancelled.add(task);
+				} catch(RuntimeException e) {
+					e.printStackTrace();
+					this.cancelled.add(task);
+				}
+			}
+		} finally {
+			this.ticking = false;
+			if(!this.cancelled.isEmpty()) this.tasks.removeAll(this.cancelled);
+			this.cancelled.clear();
+			this.tickCount++;
+		}
+	}
+	
+	/**
+	 * Get the number of ticks per second
+	 * @return (double) The number of ticks per second
+	 */
+	public double getTickRate() {
+		return 1e9 / this.tickPeriod;
+	}
+	
+	/**
+	 * Set the number of ticks per second
+	 * @param tickRate (double) The number of ticks per second
+	 */
+	public void setTickRate(double tickRate) {
+		if(!(tickRate > 0)) throw new IllegalArgumentException("Invalid tick rate: " + tickRate);
+		this.tickPeriod = (long) (1e9 / tickRate);
+	}
+	
+	/**
+	 * Get the time between two ticks
+	 * @return (double) The time, in milliseconds (0 in the max speed mode)
+	 */
+	public double getTickPeriod() {
+		return this.maxSpeed ? 0 : this.tickPeriod / 1e6;
+	}
+	
+	/**
+	 * Inform if the ticks are run without waiting
+	 * @return (boolean) true in the max speed mode, false otherwise
+	 */
+	public boolean isMaxSpeed() {
+		return this.maxSpeed;
+	}
+	
+	/**
+	 * Set if the ticks must be run without waiting (the tick rate is ignored)
+	 * @param maxSpeed (boolean) true to run the ticks without waiting, false to follow the tick rate
+	 */
+	public void setMaxSpeed(boolean maxSpeed) {
+		this.maxSpeed = maxSpeed;
+	}
+	
+	/**
+	 * Get the number of ticks run
+	 * @return (long) The number of ticks
+	 */
+	public synchronized long getTickCount() {
+		return this.tickCount;
+	}
+	
+	/**
+	 * Wait until the loop has no task or action left to run
+	 * @throws InterruptedException If the current thread is interrupted while waiting
+	 */
+	public synchronized void awaitIdle() throws InterruptedException {
+		while(this.thread != null) {
+			this.wait();
+		}
+	}
+	
+	/**
+	 * Inform if the loop has tasks or actions to run
+	 * @return (boolean) true if the thread of the loop is running, false otherwise
+	 */
+	public synchronized boolean isRunning() {
+		return this.thread != null;
+	}
+}
\ No newline at end of file
@@ -3,22 +3,31 @@ package model;
 import model.util.Direction;
 
 /**
- * A cell
+ * A cell<br>
+ * A cell is a view on the packed storage of a labyrinth : it reads and writes its value and its edges directly in the grid<br>
+ * Each edge is shared with the neighbour cell in the same direction : setting the north edge of a cell also sets the south edge of its north neighbour
  * @author Eliastik
  * @version 1.1
  * @since 30/11/2019
  */
 public class Cell {
-	/* The case value */
-	private CellValue value;
-	/* The 4 walls around the case */
-	private CellValue northEdge;
-	private CellValue eastEdge;
-	private CellValue southEdge;
-	private CellValue westEdge;
+	/* The grid storing the cell */
+	private final CellGrid grid;
+	/* The index of the cell in the grid */
+	private final int index;
 	
 	/**
-	 * Construct a new cell
+	 * Construct a new cell viewing the cell at the index passed in parameter
+	 * @param grid ({@link CellGrid}) The grid
+	 * @param index (int) The index of the cell in the grid
+	 */
+	Cell(CellGrid grid, int index) {
+		this.grid = grid;
+		this.index = index;
+	}
+	
+	/**
+	 * Construct a new cell, not attached to any labyrinth
 	 * @param valeur ({@link CellValue}) The value of the cell
 	 * @param north ({@link CellValue}) The value of the north edge
 	 * @param east ({@link CellValue}) The value of the east edge
@@ -26,18 +35,19 @@ public class Cell {
 	 * @param south ({@link CellValue}) The value of the south edge
 	 */
 	public Cell(CellValue valeur, CellValue north, CellValue east, CellValue west, CellValue south)  {
-		this.value = valeur;
-		this.northEdge = north;
-		this.eastEdge = east;
-		this.southEdge = south;
-		this.westEdge = west;
+		this(new CellGrid(1, 1), 0);
+		this.setValue(valeur);
+		this.setNorth(north);
+		this.setEast(east);
+		this.setSouth(south);
+		this.setWest(west);
 	}
 	
 	/**
-	 * Construct a new cell surrounded by walls
+	 * Construct a new cell surrounded by walls, not attached to any labyrinth
 	 */
 	public Cell() {
-		this(CellValue.WALL, CellValue.WALL, CellValue.WALL, CellValue.WALL, CellValue.WALL);
+		this(new CellGrid(1, 1), 0);
 	}
 
 	/**
@@ -45,7 +55,7 @@ public class Cell {
 	 * @return ({@link CellValue}) The value
 	 */
 	public CellValue getValue() {
-		return value;
+		return this.grid.getValue(this.index);
 	}
 
 	/**
@@ -53,7 +63,7 @@ public class Cell {
 	 * @param value ({@link CellValue}) The new value
 	 */
 	public void setValue(CellValue value) {
-		this.value = value;
+		this.grid.setValue(this.index, value);
 	}
 
 	/**
@@ -61,7 +71,7 @@ public class Cell {
 	 * @return ({@link CellValue}) The value
 	 */
 	public CellValue getNorth() {
-		return northEdge;
+		return this.grid.getEdge(this.index, Direction.NORTH);
 	}
 
 	/**
@@ -69,7 +79,7 @@ public class Cell {
 	 * @param north ({@link CellValue}) The new value
 	 */
 	public void setNorth(CellValue north) {
-		this.northEdge = north;
+		this.grid.setEdge(this.index, Direction.NORTH, north);
 	}
 	
 	/**
@@ -77,7 +87,7 @@ public class Cell {
 	 * @return ({@link CellValue}) The value
 	 */
 	public CellValue getEast() {
-		return eastEdge;
+		return this.grid.getEdge(this.index, Direction.EAST);
 	}
 
 	/**
@@ -85,7 +95,7 @@ public class Cell {
 	 * @param east ({@link CellValue}) The new value
 	 */
 	public void setEast(CellValue east) {
-		this.eastEdge = east;
+		this.grid.setEdge(this.index, Direction.EAST, east);
 	}
 
 	/**
@@ -93,7 +103,7 @@ public class Cell {
 	 * @return ({@link CellValue}) The value
 	 */
 	public CellValue getSouth() {
-		return southEdge;
+		return this.grid.getEdge(this.index, Direction.SOUTH);
 	}
 
 	/**
@@ -101,7 +111,7 @@ public class Cell {
 	 * @param south ({@link CellValue}) The new value
 	 */
 	public void setSouth(CellValue south) {
-		this.southEdge = south;
+		this.grid.setEdge(this.index, Direction.SOUTH, south);
 	}
 
 	/**
@@ -109,7 +119,7 @@ public class Cell {
 	 * @return ({@link CellValue}) The value
 	 */
 	public CellValue getWest() {
-		return westEdge;
+		return this.grid.getEdge(this.index, Direction.WEST);
 	}
 
 	/**
@@ -117,7 +127,7 @@ public class Cell {
 	 * @param west ({@link CellValue}) The new value
 	 */
 	public void setWest(CellValue west) {
-		this.westEdge = west;
+		this.grid.setEdge(this.index, Direction.WEST, west);
 	}
 	
 	/**
@@ -204,6 +214,31 @@ public class Cell {
 		}
 	}
 	
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + grid.hashCode();
+		result = prime * result + index;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		Cell other = (Cell) obj;
+		if (grid != other.grid)
+			return false;
+		if (index != other.index)
+			return false;
+		return true;
+	}
+	
 	public String toString() {
 		return "[Case] value = " + this.getValue() + " ; north = " + this.getNorth() + " ; south = " + this.getSouth() + " ; east = " + this.getEast() + " ; west = " + this.getWest();
 	}
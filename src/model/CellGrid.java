@@ -0,0 +1,390 @@
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import model.util.Direction;
+import model.util.IntList;
+
+/**
+ * The packed storage of the cells of a labyrinth<br>
+ * The value of each cell is stored in one byte of a flat array indexed by <code>y * width + x</code><br>
+ * Each wall is stored only once, as one bit shared by the two cells it separates (1 = {@link CellValue#WALL}, 0 = {@link CellValue#EMPTY}) :<br>
+ * - the horizontal walls (north and south edges) in a bitset of <code>(height + 1) * width</code> bits, the north edge of the cell (x, y) is the bit <code>y * width + x</code><br>
+ * - the vertical walls (west and east edges) in a bitset of <code>height * (width + 1)</code> bits, the west edge of the cell (x, y) is the bit <code>y * (width + 1) + x</code><br>
+ * The edges on the borders of the grid are stored too<br>
+ * The junctions of the walls drawn at the north-west of each cell are computed at the first call to {@link #getJunctions()}, then updated with the walls<br>
+ * The cells changed by the last versions of the values are logged, so a view can draw only these cells ({@link #getChangedCells(long, long, IntList)})<br>
+ * A grid can share its arrays with a {@link LabyrinthSnapshot} : they are copied at the first modification (copy-on-write)
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+class CellGrid {
+	private static final CellValue[] VALUES = CellValue.values();
+	private static final AtomicLong WALLS_VERSIONS = new AtomicLong(); // Each grid gets its own range of versions
+	private static final int CHANGES_LOG_SIZE = 1024; // Number of versions of the values whose changed cell is kept (power of 2)
+	
+	private final int width;
+	private final int height;
+	private byte[] values;
+	private long[] horizontalWalls;
+	private long[] verticalWalls;
+	private boolean sharedValues = false; // The values are shared with a snapshot, and must be copied before being modified
+	private boolean sharedWalls = false; // Same for the walls
+	private long wallsVersion = WALLS_VERSIONS.getAndAdd(1L << 32);
+	private volatile long valuesVersion = 0; // Written after the log of the changes, so a reader of the version sees the changes logged
+	private long valuesResetVersion = 0; // Version of the last change of all the values, not logged
+	private final int[] changedCells = new int[CHANGES_LOG_SIZE]; // Index of the cell changed by each version, circular
+	private volatile byte[] junctions; // See getJunctions(), null until needed
+	
+	/**
+	 * Construct a new grid where each cell is a wall surrounded by walls
+	 * @param width (int) The width of the grid
+	 * @param height (int) The height of the grid
+	 */
+	CellGrid(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.values = new byte[width * height];
+		this.horizontalWalls = new long[wordCount((height + 1) * width)];
+		this.verticalWalls = new long[wordCount(height * (width + 1))];
+		Arrays.fill(this.values, (byte) CellValue.WALL.ordinal());
+		Arrays.fill(this.horizontalWalls, -1L);
+		Arrays.fill(this.verticalWalls, -1L);
+	}
+	
+	/**
+	 * Construct a new grid sharing the arrays passed in parameter, copied only if the grid is modified
+	 * @param width (int) The width of the grid
+	 * @param height (int) The height of the grid
+	 * @param values (byte[]) The values of the cells, not modified
+	 * @param horizontalWalls (long[]) The bitset of the horizontal walls, not modified
+	 * @param verticalWalls (long[]) The bitset of the vertical walls, not modified
+	 */
+	CellGrid(int width, int height, byte[] values, long[] horizontalWalls, long[] verticalWalls) {
+		this(width, height, values, horizontalWalls, verticalWalls, true);
+	}
+	
+	/**
+	 * Construct a new grid on the arrays passed in parameter
+	 * @param width (int) The width of the grid
+	 * @param height (int) The height of the grid
+	 * @param values (byte[]) The values of the cells
+	 * @param horizontalWalls (long[]) The bitset of the horizontal walls
+	 * @param verticalWalls (long[]) The bitset of the vertical walls
+	 * @param shared (boolean) The arrays are shared with other grids : they are not modified, but copied at the first modification of the grid
+	 */
+	CellGrid(int width, int height, byte[] values, long[] horizontalWalls, long[] verticalWalls, boolean shared) {
+		this.width = width;
+		this.height = height;
+		this.values = values;
+		this.horizontalWalls = horizontalWalls;
+		this.verticalWalls = verticalWalls;
+		this.sharedValues = shared;
+		this.sharedWalls = shared;
+	}
+	
+	/**
+	 * Get the width of the grid
+	 * @return (int) The width
+	 */
+	int getWidth() {
+		return this.width;
+	}
+	
+	/**
+	 * Get the height of the grid
+	 * @return (int) The height
+	 */
+	int getHeight() {
+		return this.height;
+	}
+	
+	/**
+	 * Return the index of the cell at the coordinates passed in parameter
+	 * @param x (int) The abscissa
+	 * @param y (int) The ordinate
+	 * @return (int) The index
+	 */
+	int index(int x, int y) {
+		return y * this.width + x;
+	}
+	
+	/**
+	 * Return the index of the neighbour cell in the direction passed in parameter
+	 * @param index (int) The index of the cell from where to search
+	 * @param direction ({@link Direction}) The direction
+	 * @return (int) The index of the neighbour, or -1 if the neighbour is outside the grid
+	 */
+	int neighbour(int index, Direction direction) {
+		switch(direction) {
+			case NORTH:
+				return index >= this.width ? index - this.width : -1;
+			case SOUTH:
+				return index + this.width < this.values.length ? index + this.width : -1;
+			case EAST:
+				return index % this.width + 1 < this.width ? index + 1 : -1;
+			case WEST:
+				return index % this.width > 0 ? index - 1 : -1;
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Get the value of a cell
+	 * @param index (int) The index of the cell
+	 * @return ({@link CellValue}) The value
+	 */
+	CellValue getValue(int index) {
+		return VALUES[this.values[index]];
+	}
+	
+	/**
+	 * Set the value of a cell
+	 * @param index (int) The index of the cell
+	 * @param value ({@link CellValue}) The new value
+	 */
+	void setValue(int index, CellValue value) {
+		if(this.sharedValues) {
+			this.values = this.values.clone();
+			this.sharedValues = false;
+		}
+		
+		this.values[index] = (byte) value.ordinal();
+		
+		long version = this.valuesVersion + 1;
+		this.changedCells[(int) version & (CHANGES_LOG_SIZE - 1)] = index;
+		this.valuesVersion = version;
+	}
+	
+	/**
+	 * Get the value of an edge of a cell
+	 * @param index (int) The index of the cell
+	 * @param direction ({@link Direction}) The direction of the edge
+	 * @return ({@link CellValue}) {@link CellValue#WALL} or {@link CellValue#EMPTY}
+	 */
+	CellValue getEdge(int index, Direction direction) {
+		return this.isWall(index, direction) ? CellValue.WALL : CellValue.EMPTY;
+	}
+	
+	/**
+	 * Set the value of an edge of a cell<br>
+	 * The edge is shared with the neighbour cell in the same direction<br>
+	 * Any value other than {@link CellValue#WALL} is stored as {@link CellValue#EMPTY}
+	 * @param index (int) The index of the cell
+	 * @param direction ({@link Direction}) The direction of the edge
+	 * @param value ({@link CellValue}) The new value
+	 */
+	void setEdge(int index, Direction direction, CellValue value) {
+		this.setWall(index, direction, value == CellValue.WALL);
+	}
+	
+	/**
+	 * Inform if there is a wall on an edge of a cell
+	 * @param index (int) The index of the cell
+	 * @param direction ({@link Direction}) The direction of the edge
+	 * @return (boolean) true if there is a wall, false otherwise
+	 */
+	boolean isWall(int index, Direction direction) {
+		switch(direction) {
+			case NORTH:
+				return get(this.horizontalWalls, index);
+			case SOUTH:
+				return get(this.horizontalWalls, index + this.width);
+			case WEST:
+				return get(this.verticalWalls, index + index / this.width);
+			case EAST:
+				return get(this.verticalWalls, index + index / this.width + 1);
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Build or remove the wall on an edge of a cell
+	 * @param index (int) The index of the cell
+	 * @param direction ({@link Direction}) The direction of the edge
+	 * @param wall (boolean) true to build the wall, false to remove it
+	 */
+	void setWall(int index, Direction direction, boolean wall) {
+		if(this.sharedWalls) {
+			this.horizontalWalls = this.horizontalWalls.clone();
+			this.verticalWalls = this.verticalWalls.clone();
+			this.sharedWalls = false;
+		}
+		
+		this.wallsVersion++;
+		
+		switch(direction) {
+			case NORTH:
+				set(this.horizontalWalls, index, wall);
+				break;
+			case SOUTH:
+				set(this.horizontalWalls, index + this.width, wall);
+				break;
+			case WEST:
+				set(this.verticalWalls, index + index / this.width, wall);
+				break;
+			case EAST:
+				set(this.verticalWalls, index + index / this.width + 1, wall);
+				break;
+		}
+		
+		byte[] junctions = this.junctions;
+		if(junctions != null) this.updateJunctions(junctions, index, direction);
+	}
+	
+	/**
+	 * Get the junctions of the walls around each cell, as drawn by the views : one byte per cell, combining
+	 * {@link Labyrinth#JUNCTION_WEST}, {@link Labyrinth#JUNCTION_NORTH} and {@link Labyrinth#JUNCTION_NORTH_WEST}<br>
+	 * The array is computed at the first call, then updated each time a wall is built or removed
+	 * @return (byte[]) The junctions, not copied : must not be modified
+	 */
+	byte[] getJunctions() {
+		byte[] junctions = this.junctions;
+		
+		if(junctions == null) {
+			junctions = new byte[this.width * this.height];
+			this.junctions = junctions; // Before the computation, so the walls changed meanwhile (generation) update it too
+			
+			for(int i = 0; i < junctions.length; i++) {
+				junctions[i] = this.junction(i);
+			}
+		}
+		
+		return junctions;
+	}
+	
+	/**
+	 * Compute the junctions of the walls around a cell
+	 * @param index (int) The index of the cell
+	 * @return (byte) The junctions, see {@link #getJunctions()}
+	 */
+	private byte junction(int index) {
+		boolean hasWest = index % this.width > 0;
+		boolean hasNorth = index >= this.width;
+		boolean west = hasWest && this.isWall(index, Direction.WEST);
+		boolean north = hasNorth && this.isWall(index, Direction.NORTH);
+		boolean northWest = west || north || (hasWest && hasNorth && (this.isWall(index - this.width, Direction.WEST) || this.isWall(index - 1, Direction.NORTH)));
+		
+		return (byte) ((west ? Labyrinth.JUNCTION_WEST : 0) | (north ? Labyrinth.JUNCTION_NORTH : 0) | (northWest ? Labyrinth.JUNCTION_NORTH_WEST : 0));
+	}
+	
+	/**
+	 * Update the junctions after a wall changed : the junctions of a cell depend on its west and north walls, the west wall of its north neighbour
+	 * and the north wall of its west neighbour
+	 * @param junctions (byte[]) The junctions
+	 * @param index (int) The index of the cell
+	 * @param direction ({@link Direction}) The direction of the wall changed
+	 */
+	private void updateJunctions(byte[] junctions, int index, Direction direction) {
+		int cell = index; // The cell whose west or north wall changed
+		
+		if(direction == Direction.SOUTH) {
+			cell = index + this.width;
+		} else if(direction == Direction.EAST) {
+			cell = index % this.width + 1 < this.width ? index + 1 : -1;
+		}
+		
+		if(cell < 0 || cell >= junctions.length) return;
+		
+		junctions[cell] = this.junction(cell);
+		if(cell % this.width + 1 < this.width) junctions[cell + 1] = this.junction(cell + 1);
+		if(cell + this.width < junctions.length) junctions[cell + this.width] = this.junction(cell + this.width);
+	}
+	
+	/**
+	 * Get the version of the walls, changed each time a wall is built or removed<br>
+	 * Two grids never have the same version
+	 * @return (long) The version
+	 */
+	long getWallsVersion() {
+		return this.wallsVersion;
+	}
+	
+	/**
+	 * Get the version of the values of the cells, changed each time a value is set
+	 * @return (long) The version
+	 */
+	long getValuesVersion() {
+		return this.valuesVersion;
+	}
+	
+	/**
+	 * Get the cells whose value changed between two versions of the values, from the log of the last changes<br>
+	 * A cell changed several times is added several times
+	 * @param from (long) The version already known (exclusive)
+	 * @param to (long) The current version, read with {@link #getValuesVersion()} (inclusive)
+	 * @param cells ({@link IntList}) The list where the indexes of the cells are added
+	 * @return (boolean) true if the cells were added, false if the changes are no longer logged (too many changes, or all the values changed) : all the cells must be considered as changed
+	 */
+	boolean getChangedCells(long from, long to, IntList cells) {
+		if(from > to || from < this.valuesResetVersion || to - from > CHANGES_LOG_SIZE) return false;
+		
+		for(long version = from + 1; version <= to; version++) {
+			cells.add(this.changedCells[(int) version & (CHANGES_LOG_SIZE - 1)]);
+		}
+		
+		// The log may have been overwritten while reading it
+		return this.valuesVersion - from <= CHANGES_LOG_SIZE;
+	}
+	
+	/**
+	 * Get the values of the cells (one byte per cell, the ordinal of the {@link CellValue}), not copied : must not be modified
+	 * @return (byte[]) The values
+	 */
+	byte[] getValues() {
+		return this.values;
+	}
+	
+	/**
+	 * Get the bitset of the horizontal walls (north and south edges), not copied : must be modified only if the grid doesn't share its walls (new grid)
+	 * @return (long[]) The bitset
+	 */
+	long[] getHorizontalWalls() {
+		return this.horizontalWalls;
+	}
+	
+	/**
+	 * Get the bitset of the vertical walls (west and east edges), not copied : must be modified only if the grid doesn't share its walls (new grid)
+	 * @return (long[]) The bitset
+	 */
+	long[] getVerticalWalls() {
+		return this.verticalWalls;
+	}
+	
+	/**
+	 * Set the value of all the cells
+	 * @param value ({@link CellValue}) The new value
+	 */
+	void fillValues(CellValue value) {
+		if(this.sharedValues) {
+			this.values = new byte[this.values.length];
+			this.sharedValues = false;
+		}
+		
+		Arrays.fill(this.values, (byte) value.ordinal());
+		
+		long version = this.valuesVersion + 1;
+		this.valuesResetVersion = version;
+		this.valuesVersion = version;
+	}
+	
+	private static int wordCount(int bits) {
+		return (bits + 63) >>> 6;
+	}
+	
+	private static boolean get(long[] bits, int bit) {
+		return (bits[bit >>> 6] & (1L << bit)) != 0;
+	}
+	
+	private static void set(long[] bits, int bit, boolean value) {
+		if(value) {
+			bits[bit >>> 6] |= 1L << bit;
+		} else {
+			bits[bit >>> 6] &= ~(1L << bit);
+		}
+	}
+}
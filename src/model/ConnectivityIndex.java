@@ -0,0 +1,262 @@
+package model;
+
+import model.util.Direction;
+import model.util.IntList;
+
+/**
+ * An index of the connected components of the open cells of a labyrinth (the cells where the player can move, see {@link MoveRules#isFree(CellValue)})<br>
+ * Each open cell is labelled with its component : the labels are computed once with a flood fill, then maintained as the player crosses cells :<br>
+ * a crossed cell with at most one open neighbour cannot disconnect other cells, so it is removed in O(1)<br>
+ * a crossed cell with more open neighbours may split its component : a search is started from each of these neighbours, the searches being expanded in turn.
+ * The searches meeting each other are still connected, and a search ending before meeting the others has visited a new component, labelled again.
+ * The search stops when only one search is left, so its cost depends on the size of the smallest parts, not on the size of the labyrinth<br>
+ * The queries are answered in O(1)
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ * @see <a href="https://en.wikipedia.org/wiki/Dynamic_connectivity">https://en.wikipedia.org/wiki/Dynamic_connectivity</a>
+ */
+public class ConnectivityIndex {
+	private final Labyrinth labyrinth;
+	private final int[] components; // The component of each open cell, -1 for the other cells
+	private int componentCount = 0;
+	private boolean dirty = true;
+	private int rebuildCount = 0;
+	// Searches started when a cell is crossed, one per open neighbour
+	private final int[] marks; // The search which visited each cell : searchStamp + the number of the search
+	private int searchStamp = 0;
+	private final IntList[] searches = {new IntList(), new IntList(), new IntList(), new IntList()}; // The cells visited by each search
+	private final int[] heads = new int[4]; // The next cell to expand of each search
+	private final int[] groups = new int[4]; // The searches which met are in the same group
+	
+	/**
+	 * Construct a new index, built at the first query
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 */
+	public ConnectivityIndex(Labyrinth labyrinth) {
+		this.labyrinth = labyrinth;
+		this.components = new int[labyrinth.getCellCount()];
+		this.marks = new int[labyrinth.getCellCount()];
+	}
+	
+	/**
+	 * Inform if two open cells are in the same component
+	 * @param index (int) The index of the first cell
+	 * @param otherIndex (int) The index of the other cell
+	 * @return (boolean) true if the player can move from one cell to the other, false otherwise
+	 */
+	public synchronized boolean isConnected(int index, int otherIndex) {
+		if(this.dirty) this.rebuild();
+		return this.components[index] >= 0 && this.components[index] == this.components[otherIndex];
+	}
+	
+	/**
+	 * Inform if an open cell is in the same component as the end position of the labyrinth
+	 * @param index (int) The index of the cell
+	 * @return (boolean) true if the player can move from the cell to the exit, false otherwise
+	 */
+	public boolean isConnectedToExit(int index) {
+		return this.isConnected(index, this.labyrinth.getIndex(this.labyrinth.getEndPosition()));
+	}
+	
+	/**
+	 * Update the index after a cell was crossed by the player (its value is now {@link CellValue#CROSSED})
+	 * @param index (int) The index of the crossed cell
+	 */
+	public synchronized void cross(int index) {
+		if(this.dirty) return;
+		
+		this.components[index] = -1;
+		
+		if(this.searchStamp > Integer.MAX_VALUE - 8) {
+			java.util.Arrays.fill(this.marks, 0);
+			this.searchStamp = 0;
+		}
+		
+		this.searchStamp += 4;
+		int count = 0;
+		
+		for(int d = 0; d < 4; d++) {
+			Direction direction = Direction.get(d);
+			if(!this.labyrinth.canMoveTo(index, direction)) continue;
+			
+			int neighbour = this.labyrinth.getNeighbour(index, direction);
+			this.searches[count].clear();
+			this.searches[count].add(neighbour);
+			this.heads[count] = 0;
+			this.groups[count] = count;
+			this.marks[neighbour] = this.searchStamp + count;
+			count++;
+		}
+		
+		int alive = count; // Number of groups of searches not ended
+		
+		while(alive > 1) {
+			boolean changed = false;
+			
+			for(int s = 0; s < count; s++) {
+				if(this.heads[s] < this.searches[s].size()) changed |= this.expand(s, count);
+			}
+			
+			if(!changed) continue;
+			
+			// Count the groups of the searches which met
+			alive = 0;
+			
+			for(int s = 0; s < count; s++) {
+				if(this.findGroup(s) == s) alive++;
+			}
+			
+			// A group whose searches all ended is a new component
+			for(int g = 0; g < count && alive > 1; g++) {
+				if(this.findGroup(g) != g || this.isGroupRunning(g, count)) continue;
+				
+				this.relabel(g, count);
+				alive--;
+			}
+		}
+	}
+	
+	/**
+	 * Expand the next cell of a search
+	 * @param search (int) The number of the search
+	 * @param count (int) The number of searches
+	 * @return (boolean) true if the search met another search or has no cell left to expand, false otherwise
+	 */
+	private boolean expand(int search, int count) {
+		IntList cells = this.searches[search];
+		int cell = cells.get(this.heads[search]++);
+		boolean met = false;
+		
+		for(int d = 0; d < 4; d++) {
+			Direction direction = Direction.get(d);
+			if(!this.labyrinth.canMoveTo(cell, direction)) continue;
+			
+			int neighbour = this.labyrinth.getNeighbour(cell, direction);
+			int other = this.marks[neighbour] - this.searchStamp;
+			
+			if(other == search) continue;
+			
+			if(other >= 0 && other < count) {
+				// Visited by another search : the searches met
+				int group = this.findGroup(search);
+				int otherGroup = this.findGroup(other);
+				
+				if(group != otherGroup) {
+					this.groups[otherGroup] = group;
+					met = true;
+				}
+			} else {
+				this.marks[neighbour] = this.searchStamp + search;
+				cells.add(neighbour);
+			}
+		}
+		
+		return met || this.heads[search] == cells.size();
+	}
+	
+	/**
+	 * Find the group of a search
+	 * @param search (int) The number of the search
+	 * @return (int) The search at the root of the group, or -1 if the group ended
+	 */
+	private int findGroup(int search) {
+		while(search >= 0 && this.groups[search] != search) {
+			search = this.groups[search];
+		}
+		
+		return search;
+	}
+	
+	/**
+	 * Inform if a search of a group has cells left to expand
+	 * @param group (int) The group
+	 * @param count (int) The number of searches
+	 * @return (boolean) true if the group is still searching, false if its component is fully visited
+	 */
+	private boolean isGroupRunning(int group, int count) {
+		for(int s = 0; s < count; s++) {
+			if(this.findGroup(s) == group && this.heads[s] < this.searches[s].size()) return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Label the cells visited by the searches of a group with a new component, and end the group
+	 * @param group (int) The group
+	 * @param count (int) The number of searches
+	 */
+	private void relabel(int group, int count) {
+		int component = this.componentCount++;
+		
+		for(int s = 0; s < count; s++) {
+			if(this.findGroup(s) != group) continue;
+			
+			IntList cells = this.searches[s];
+			
+			for(int i = 0; i < cells.size(); i++) {
+				this.components[cells.get(i)] = component;
+			}
+		}
+		
+		for(int s = 0; s < count; s++) {
+			if(s != group && this.findGroup(s) == group) this.groups[s] = -1;
+		}
+		
+		this.groups[group] = -1; // Not a group anymore
+	}
+	
+	/**
+	 * Invalidate the index, it will be rebuilt at the next query<br>
+	 * Must be called when the walls or the cells change other than by {@link #cross(int)} (generation, new start position, etc.)
+	 */
+	public synchronized void invalidate() {
+		this.dirty = true;
+	}
+	
+	/**
+	 * Get the number of times the index was built
+	 * @return (int) The number of builds
+	 */
+	public synchronized int getRebuildCount() {
+		return this.rebuildCount;
+	}
+	
+	/**
+	 * Build the index from the current cells of the labyrinth, with a flood fill from each open cell not yet labelled
+	 */
+	private void rebuild() {
+		IntList stack = this.searches[0];
+		this.componentCount = 0;
+		java.util.Arrays.fill(this.components, -1);
+		
+		for(int i = 0; i < this.components.length; i++) {
+			if(this.components[i] >= 0 || !MoveRules.isFree(this.labyrinth.getValue(i))) continue;
+			
+			int component = this.componentCount++;
+			this.components[i] = component;
+			stack.clear();
+			stack.add(i);
+			
+			while(!stack.isEmpty()) {
+				int cell = stack.removeLast();
+				
+				for(int d = 0; d < 4; d++) {
+					Direction direction = Direction.get(d);
+					if(!this.labyrinth.canMoveTo(cell, direction)) continue;
+					
+					int neighbour = this.labyrinth.getNeighbour(cell, direction);
+					
+					if(this.components[neighbour] < 0) {
+						this.components[neighbour] = component;
+						stack.add(neighbour);
+					}
+				}
+			}
+		}
+		
+		this.dirty = false;
+		this.rebuildCount++;
+	}
+}
\ No newline at end of file
@@ -1,8 +1,5 @@
 package model;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import model.util.Direction;
@@ -15,66 +12,40 @@ import model.util.Position;
  * @since 30/11/2019
  */
 public abstract class GenerationAlgorithmStrategy {
-	private boolean stopped = false;
+	/**
+	 * Generate a labyrinth<br>
+	 * The algorithm keeps no state between two calls, everything related to the generation is in the context
+	 * @param labyrinth ({@link Labyrinth})
+	 * @param random ({@link Random}) A seedable Random
+	 * @param start ({@link Position}) The start position of the player / some algorithms can use it as start position in their process
+	 * @param end ({@link Position}) The end position where the player must go
+	 * @param context ({@link GenerationContext}) The context of this generation (cancellation, step-by-step mode, scratch buffers)
+	 */
+	public abstract void generate(Labyrinth labyrinth, Random random, Position start, Position end, GenerationContext context);
 	
 	/**
-	 * Generate a labyrinth
+	 * Generate a labyrinth with a new context
 	 * @param labyrinth ({@link Labyrinth})
 	 * @param random ({@link Random}) A seedable Random
 	 * @param start ({@link Position}) The start position of the player / some algorithms can use it as start position in their process
 	 * @param end ({@link Position}) The end position where the player must go
 	 * @param stepByStep (boolean) The algorithm sleeps between iterations to demonstrate how it works (to be run by an independent Thread)
 	 */
-	public abstract void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep);
+	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
+		this.generate(labyrinth, random, start, end, new GenerationContext(stepByStep));
+	}
 	
 	/**
 	 * Erase the grid of the labyrinth passed in parameter
 	 * @param labyrinth ({@link Labyrinth}) The labyrinth
 	 */
 	public void eraseGrid(Labyrinth labyrinth) {
-		for(int i = 0; i < labyrinth.getHeight(); i++) {
-			for(int j = 0; j < labyrinth.getWidth(); j++) {
-				Position pos = new Position(j, i);
-				Cell cell = labyrinth.getCell(pos);
-				cell.setValue(CellValue.EMPTY);
-				
-				List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST));
-				
-				for(Direction dir : directions) {
-					cell.setEdgeToDirection(dir, CellValue.EMPTY);
-					cell.setOppositeEdge(dir, CellValue.EMPTY);
-					
-					Cell neighbour = labyrinth.getCell(labyrinth.getNeighbour(pos, dir, dir));
-					
-					if(neighbour != null) {
-						neighbour.setValue(CellValue.EMPTY);
-						neighbour.setEdgeToDirection(dir, CellValue.EMPTY);
-						neighbour.setOppositeEdge(dir, CellValue.EMPTY);
-					}
-				}
+		for(int i = 0; i < labyrinth.getCellCount(); i++) {
+			labyrinth.setValue(i, CellValue.EMPTY);
+			
+			for(int d = 0; d < 4; d++) {
+				labyrinth.setWall(i, Direction.get(d), false);
 			}
 		}
 	}
-	
-	/**
-	 * Stop the generation
-	 */
-	public void stop() {
-		this.stopped = true;
-	}
-
-	/**
-	 * Inform if the generation is stopped
-	 * @return (boolean) true if the generation is stopped, false otherwise
-	 */
-	public boolean isStopped() {
-		return stopped;
-	}
-	
-	/**
-	 * Reverse the stop flag
-	 */
-	public void restart() {
-		this.stopped = false;
-	}
 }
\ No newline at end of file
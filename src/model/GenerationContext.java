@@ -0,0 +1,76 @@
+package model;
+
+import model.util.Direction;
+import model.util.IntList;
+
+/**
+ * The state of one generation of a labyrinth : the cancellation flag, the step-by-step setting and scratch buffers<br>
+ * The generation algorithms keep no state, so the same {@link GenerationAlgorithmStrategy} can run several generations at the same time, each one with its own context<br>
+ * A context can be reused by successive generations on the same thread to reuse its buffers, as long as it is not stopped
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class GenerationContext {
+	private final boolean stepByStep;
+	private volatile boolean stopped = false;
+	// Scratch buffers
+	private final Direction[] directions = new Direction[4];
+	private final IntList cells = new IntList();
+	
+	/**
+	 * Construct a new context
+	 * @param stepByStep (boolean) The algorithm sleeps between iterations to demonstrate how it works (to be run by an independent Thread)
+	 */
+	public GenerationContext(boolean stepByStep) {
+		this.stepByStep = stepByStep;
+	}
+	
+	/**
+	 * Construct a new context, without step-by-step generation
+	 */
+	public GenerationContext() {
+		this(false);
+	}
+	
+	/**
+	 * Inform if the algorithm is running step-by-step
+	 * @return (boolean) true if the algorithm sleeps between iterations, false otherwise
+	 */
+	public boolean isStepByStep() {
+		return this.stepByStep;
+	}
+	
+	/**
+	 * Stop the generation<br>
+	 * Can be called from any thread
+	 */
+	public void stop() {
+		this.stopped = true;
+	}
+	
+	/**
+	 * Inform if the generation is stopped
+	 * @return (boolean) true if the generation is stopped, false otherwise
+	 */
+	public boolean isStopped() {
+		return this.stopped;
+	}
+	
+	/**
+	 * Get an array of four directions, to be shuffled with {@link Direction#shuffle(Direction[], java.util.Random)}
+	 * @return ({@link Direction}[4]) The array, the same for each call
+	 */
+	public Direction[] getDirections() {
+		return this.directions;
+	}
+	
+	/**
+	 * Get an empty list of cell indexes
+	 * @return ({@link IntList}) The list, the same for each call (cleared)
+	 */
+	public IntList getCells() {
+		this.cells.clear();
+		return this.cells;
+	}
+}
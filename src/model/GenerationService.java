@@ -0,0 +1,205 @@
+package model;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import model.solvingAlgorithm.AStar;
+
+/**
+ * A service generating labyrinths on a bounded pool of threads<br>
+ * The threads are virtual threads when the Java runtime supports them (Java 21 and later), platform daemon threads otherwise<br>
+ * Each job returns a {@link GenerationTask} : a future of the generated labyrinth, whose cancellation stops the generation
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class GenerationService implements AutoCloseable {
+	private final ExecutorService executor;
+	private final boolean virtualThreads;
+	private final Set<GenerationTask> tasks = ConcurrentHashMap.newKeySet(); // The jobs submitted and not finished
+	
+	/**
+	 * Construct a new generation service
+	 * @param threads (int) The maximum number of labyrinths generated at the same time
+	 */
+	public GenerationService(int threads) {
+		if(threads <= 0) throw new IllegalArgumentException("Invalid number of threads: " + threads);
+		
+		ThreadFactory factory = virtualThreadFactory();
+		this.virtualThreads = factory != null;
+		
+		if(factory == null) {
+			factory = runnable -> {
+				Thread thread = new Thread(runnable, "labyrinth-generation");
+				thread.setDaemon(true);
+				return thread;
+			};
+		}
+		
+		this.executor = Executors.newFixedThreadPool(threads, factory);
+	}
+	
+	/**
+	 * Construct a new generation service with one thread per available processor
+	 */
+	public GenerationService() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Generate a labyrinth
+	 * @param width (int) The width of the labyrinth
+	 * @param height (int) The height of the labyrinth
+	 * @param algorithm ({@link GenerationAlgorithmStrategy}) The generation algorithm, can be shared by several jobs
+	 * @param seed (long) The value for the pseudo-random number generator
+	 * @return ({@link GenerationTask}) The future of the labyrinth
+	 */
+	public GenerationTask submit(int width, int height, GenerationAlgorithmStrategy algorithm, long seed) {
+		return this.submit(new Labyrinth(width, height, algorithm, new AStar(), false), seed, false);
+	}
+	
+	/**
+	 * Generate a labyrinth already built, with its generation algorithm
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @param seed (long) The value for the pseudo-random number generator
+	 * @param stepByStep (boolean) The algorithm sleeps between iterations to demonstrate how it works
+	 * @return ({@link GenerationTask}) The future of the labyrinth
+	 */
+	public GenerationTask submit(Labyrinth labyrinth, long seed, boolean stepByStep) {
+		GenerationTask task = new GenerationTask(labyrinth, seed, stepByStep, this.tasks);
+		this.tasks.add(task);
+		
+		try {
+			this.executor.execute(task);
+		} catch(RejectedExecutionException e) {
+			this.tasks.remove(task);
+			throw e;
+		}
+		
+		return task;
+	}
+	
+	/**
+	 * Inform if the service uses virtual threads
+	 * @return (boolean) true if the threads are virtual threads, false otherwise
+	 */
+	public boolean isUsingVirtualThreads() {
+		return this.virtualThreads;
+	}
+	
+	/**
+	 * Stop the service : the pending jobs are not started, the running generations are stopped
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdown();
+		
+		// Not interrupted : the generation algorithms are stopped by the cancellation, and the pending jobs end at once when the pool runs them
+		for(GenerationTask task : this.tasks) {
+			task.cancel(false);
+		}
+	}
+	
+	/**
+	 * Create a factory of virtual threads with the Thread.ofVirtual() API, by reflection as this project targets Java 11
+	 * @return (ThreadFactory) The factory, or null if virtual threads are not available
+	 */
+	private static ThreadFactory virtualThreadFactory() {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = Class.forName("java.lang.Thread$Builder").getMethod("name", String.class).invoke(builder, "labyrinth-generation");
+			return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+		} catch(ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * The future of a labyrinth generation<br>
+	 * Cancelling it stops the generation of the labyrinth ({@link GenerationContext#stop()}), even if the generation is not started yet
+	 * @author Eliastik
+	 * @version 1.1
+	 * @since 17/10/2026
+	 */
+	public static class GenerationTask extends FutureTask<Labyrinth> {
+		private final Labyrinth labyrinth;
+		private final GenerationContext context;
+		private final CountDownLatch finished = new CountDownLatch(1);
+		private final Set<GenerationTask> tasks;
+		private volatile long start;
+		private volatile long generationTime = -1;
+		
+		private GenerationTask(Labyrinth labyrinth, long seed, boolean stepByStep, Set<GenerationTask> tasks) {
+			this(labyrinth, seed, new GenerationContext(stepByStep), tasks);
+		}
+		
+		// The context is created before the job is submitted, so a cancellation before the start of the generation stops it too
+		private GenerationTask(Labyrinth labyrinth, long seed, GenerationContext context, Set<GenerationTask> tasks) {
+			super(() -> {
+				labyrinth.generate(seed, context);
+				return labyrinth;
+			});
+			
+			this.labyrinth = labyrinth;
+			this.context = context;
+			this.tasks = tasks;
+		}
+		
+		@Override
+		public void run() {
+			try {
+				this.start = System.nanoTime();
+				super.run();
+			} finally {
+				this.tasks.remove(this);
+				this.finished.countDown();
+			}
+		}
+		
+		@Override
+		protected void set(Labyrinth labyrinth) {
+			// Before the result is published, so the time is known when get() returns
+			if(!this.isCancelled()) this.generationTime = System.nanoTime() - this.start;
+			super.set(labyrinth);
+		}
+		
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			if(cancelled) this.context.stop(); // After the cancellation, else the stopped generation could end normally first
+			return cancelled;
+		}
+		
+		/**
+		 * Cancel the generation, then wait until the generation algorithm is stopped (if it was running)
+		 * @throws InterruptedException If the current thread was interrupted while waiting
+		 */
+		public void cancelAndWait() throws InterruptedException {
+			this.cancel(false);
+			this.finished.await();
+		}
+		
+		/**
+		 * Get the labyrinth, generated or being generated (for a step-by-step generation)
+		 * @return ({@link Labyrinth}) The labyrinth
+		 */
+		public Labyrinth getLabyrinth() {
+			return this.labyrinth;
+		}
+		
+		/**
+		 * Get the time spent to generate the labyrinth
+		 * @return (long) The time in nanoseconds, -1 if the generation is not finished or was cancelled
+		 */
+		public long getGenerationTime() {
+			return this.generationTime;
+		}
+	}
+}
@@ -8,6 +8,7 @@ import model.generationAlgorithm.GrowingTree;
 import model.solvingAlgorithm.AStar;
 import model.solvingAlgorithm.BreadthFirstSearch;
 import model.util.Direction;
+import model.util.IntList;
 import model.util.Position;
 
 /**
@@ -17,7 +18,19 @@ import model.util.Position;
  * @since 30/11/2019
  */
 public class Labyrinth {
-	private Cell[][] cells;
+	/**
+	 * Junction flag : wall on the west edge of the cell (see {@link #getJunctions()})
+	 */
+	public static final int JUNCTION_WEST = 1;
+	/**
+	 * Junction flag : wall on the north edge of the cell
+	 */
+	public static final int JUNCTION_NORTH = 2;
+	/**
+	 * Junction flag : wall at the north-west corner of the cell (a wall ends or crosses at this corner)
+	 */
+	public static final int JUNCTION_NORTH_WEST = 4;
+	private CellGrid grid;
 	private Position startPosition;
 	private Position endPosition;
 	private GenerationAlgorithmStrategy algorithm = new GrowingTree();
@@ -25,22 +38,30 @@ public class Labyrinth {
 	private Player player;
 	private boolean enableAutoPlayer;
 	private boolean generationFinished = false;
+	private long seed;
+	private ConnectivityIndex connectivityIndex;
+	private volatile GenerationContext generationContext; // The context of the running or last generation
+	private volatile SolvingContext solvingContext; // The context of the running search of a path
 	
 	public Labyrinth(int width, int height, Position startPosition, Position endPosition, GenerationAlgorithmStrategy algorithm, SolvingAlgorithmStrategy algorithmSolve, boolean autoPlayer, boolean enableAutoPlayer) {
-		if((width <= 1 && height <= 1) || width <= 0 || height <= 0) {
-			throw new IllegalArgumentException("Impossible to build a labyrinth with only one cell or less");
-		}
-		
-		cells = new Cell[height][width];
+		this(createGrid(width, height), startPosition, endPosition, algorithm, algorithmSolve, autoPlayer, enableAutoPlayer);
+	}
+	
+	/**
+	 * Construct a labyrinth on a grid already filled (restored or loaded), without allocating a new grid
+	 * @param grid ({@link CellGrid}) The cells and walls, of at least two cells
+	 * @param startPosition ({@link Position}) The start position
+	 * @param endPosition ({@link Position}) The end position
+	 * @param algorithm ({@link GenerationAlgorithmStrategy}) The generation algorithm
+	 * @param algorithmSolve ({@link SolvingAlgorithmStrategy}) The solving algorithm
+	 * @param autoPlayer (boolean) The player is moved by the solving algorithm
+	 * @param enableAutoPlayer (boolean) The auto player can be enabled
+	 */
+	Labyrinth(CellGrid grid, Position startPosition, Position endPosition, GenerationAlgorithmStrategy algorithm, SolvingAlgorithmStrategy algorithmSolve, boolean autoPlayer, boolean enableAutoPlayer) {
+		this.grid = grid;
 		this.startPosition = startPosition;
 		this.endPosition = endPosition;
 		
-		for(int i = 0; i < height; i++) {
-			for(int j = 0; j < width; j++) {
-				cells[i][j] = new Cell();
-			}
-		}
-		
 		this.player = new Player(this.startPosition, Direction.SOUTH, this);
 		this.setAutoPlayer(autoPlayer);
 		this.enableAutoPlayer = enableAutoPlayer;
@@ -76,15 +97,206 @@ public class Labyrinth {
 		this(5, 5);
 	}
 	
+	private static CellGrid createGrid(int width, int height) {
+		if((width <= 1 && height <= 1) || width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("Impossible to build a labyrinth with only one cell or less");
+		}
+		
+		return new CellGrid(width, height);
+	}
+	
 	/**
-	 * Get the cell at the position passed in parameter
+	 * Get the cell at the position passed in parameter<br>
+	 * The returned {@link Cell} is a view on the packed storage of the labyrinth
 	 * @param position ({@link Position}) The position
 	 * @return The cell
 	 */
 	public Cell getCell(Position position) {
-		return position == null ? null : cells[position.getY()][position.getX()];
+		return position == null ? null : new Cell(this.grid, this.grid.index(position.getX(), position.getY()));
 	}
 
+	/**
+	 * Get the number of cells of the labyrinth
+	 * @return (int) width * height
+	 */
+	public int getCellCount() {
+		return this.getWidth() * this.getHeight();
+	}
+	
+	/**
+	 * Get the index of the cell at the coordinates passed in parameter<br>
+	 * The cells are indexed from 0 to {@link #getCellCount()} - 1, row by row (index = y * width + x)
+	 * @param x (int) The abscissa
+	 * @param y (int) The ordinate
+	 * @return (int) The index of the cell
+	 */
+	public int getIndex(int x, int y) {
+		return this.grid.index(x, y);
+	}
+	
+	/**
+	 * Get the index of the cell at the position passed in parameter
+	 * @param position ({@link Position}) The position
+	 * @return (int) The index of the cell
+	 */
+	public int getIndex(Position position) {
+		return this.grid.index(position.getX(), position.getY());
+	}
+	
+	/**
+	 * Get the abscissa of the cell at the index passed in parameter
+	 * @param index (int) The index of the cell
+	 * @return (int) The abscissa
+	 */
+	public int getX(int index) {
+		return index % this.getWidth();
+	}
+	
+	/**
+	 * Get the ordinate of the cell at the index passed in parameter
+	 * @param index (int) The index of the cell
+	 * @return (int) The ordinate
+	 */
+	public int getY(int index) {
+		return index / this.getWidth();
+	}
+	
+	/**
+	 * Get the position of the cell at the index passed in parameter
+	 * @param index (int) The index of the cell
+	 * @return ({@link Position}) A new position
+	 */
+	public Position getPosition(int index) {
+		return new Position(this.getX(index), this.getY(index));
+	}
+	
+	/**
+	 * Get the value of the cell at the index passed in parameter
+	 * @param index (int) The index of the cell
+	 * @return ({@link CellValue}) The value
+	 */
+	public CellValue getValue(int index) {
+		return this.grid.getValue(index);
+	}
+	
+	/**
+	 * Set the value of the cell at the index passed in parameter
+	 * @param index (int) The index of the cell
+	 * @param value ({@link CellValue}) The new value
+	 */
+	public void setValue(int index, CellValue value) {
+		this.grid.setValue(index, value);
+	}
+	
+	/**
+	 * Inform if there is a wall on the edge of a cell
+	 * @param index (int) The index of the cell
+	 * @param direction ({@link Direction}) The direction of the edge
+	 * @return (boolean) true if there is a wall, false otherwise
+	 */
+	public boolean isWall(int index, Direction direction) {
+		return this.grid.isWall(index, direction);
+	}
+	
+	/**
+	 * Build or remove the wall on the edge of a cell<br>
+	 * The wall is shared with the neighbour cell in the same direction
+	 * @param index (int) The index of the cell
+	 * @param direction ({@link Direction}) The direction of the edge
+	 * @param wall (boolean) true to build the wall, false to remove it
+	 */
+	public void setWall(int index, Direction direction, boolean wall) {
+		this.grid.setWall(index, direction, wall);
+	}
+	
+	/**
+	 * Get the version of the walls of the labyrinth, changed each time a wall is built or removed (by the generation) and when the labyrinth is restored<br>
+	 * Used to know if a drawing of the walls is still valid
+	 * @return (long) The version
+	 */
+	public long getWallsVersion() {
+		return this.grid.getWallsVersion();
+	}
+	
+	/**
+	 * Get the version of the values of the cells, changed each time a value is set (generation, solving, moves of the player)<br>
+	 * Used with {@link #getWallsVersion()} to know if a drawing of the cells is still valid
+	 * @return (long) The version
+	 */
+	public long getValuesVersion() {
+		return this.grid.getValuesVersion();
+	}
+	
+	/**
+	 * Get the cells whose value changed between two versions of the values<br>
+	 * A cell changed several times is added several times
+	 * @param from (long) The version already known (exclusive)
+	 * @param to (long) The current version, read with {@link #getValuesVersion()} (inclusive)
+	 * @param cells ({@link IntList}) The list where the indexes of the cells are added
+	 * @return (boolean) true if the cells were added, false if the changes are no longer known : all the cells must be considered as changed
+	 */
+	public boolean getChangedCells(long from, long to, IntList cells) {
+		return this.grid.getChangedCells(from, to, cells);
+	}
+	
+	/**
+	 * Return the index of the neighbour cell in the direction passed in parameter
+	 * @param index (int) The index of the cell from where to search
+	 * @param direction ({@link Direction}) The direction
+	 * @return (int) The index of the neighbour, or -1 if the neighbour is outside the labyrinth
+	 */
+	public int getNeighbour(int index, Direction direction) {
+		return this.grid.neighbour(index, direction);
+	}
+	
+	/**
+	 * Inform if the player can move from a cell to its neighbour in the direction passed in parameter<br>
+	 * Same rules as {@link #canMoveTo(Cell, Cell, Direction)}, see {@link MoveRules}
+	 * @param index (int) The index of the current cell
+	 * @param direction ({@link Direction}) The direction
+	 * @return (boolean) true if the player can move, false otherwise
+	 */
+	public boolean canMoveTo(int index, Direction direction) {
+		return MoveRules.getDestination(this.grid, null, index, direction) >= 0;
+	}
+	
+	/**
+	 * Get the cell from where the player can arrive in a cell, coming from the direction passed in parameter (a move searched backward from the exit)<br>
+	 * Same rules as {@link #canMoveTo(int, Direction)}, see {@link MoveRules}
+	 * @param index (int) The index of the cell where the player arrives, free (see {@link #canEnter(int)})
+	 * @param direction ({@link Direction}) The direction of the origin from the cell
+	 * @param player (int) The index of the cell of the player, an origin whatever its value
+	 * @return (int) The index of the origin, or -1 if the player can't come from this direction
+	 */
+	public int getMoveOrigin(int index, Direction direction, int player) {
+		return MoveRules.getOrigin(this.grid, null, index, direction, player);
+	}
+	
+	/**
+	 * Inform if the player can enter a cell, from a neighbour without wall between them
+	 * @param index (int) The index of the cell
+	 * @return (boolean) true if the cell is empty or only marked by a step-by-step search, false otherwise
+	 */
+	public boolean canEnter(int index) {
+		return MoveRules.isFree(this.grid.getValue(index));
+	}
+	
+	/**
+	 * Get the directions where the player can move from a cell
+	 * @param index (int) The index of the cell
+	 * @return (int) A mask of directions, see {@link Direction#getMask()}
+	 */
+	public int getOpenDirections(int index) {
+		int mask = 0;
+		
+		for(int d = 0; d < 4; d++) {
+			Direction direction = Direction.get(d);
+			if(this.canMoveTo(index, direction)) mask |= direction.getMask();
+		}
+		
+		return mask;
+	}
+	
 	/**
 	 * Generate randoms start and end positions<br>
 	 * Reset the player position
@@ -112,7 +324,7 @@ public class Labyrinth {
 	 * @return (int) Return the height of the grid
 	 */
 	public int getHeight() {
-		return this.cells.length;
+		return this.grid.getHeight();
 	}
 
 	/**
@@ -120,7 +332,7 @@ public class Labyrinth {
 	 * @return (int) Return the width of the grid
 	 */
 	public int getWidth() {
-		return this.cells[0].length;
+		return this.grid.getWidth();
 	}
 	
 	/**
@@ -275,7 +487,8 @@ public class Labyrinth {
 	}
 	
 	/**
-	 * Inform if the player can move the other cell passed in parameter according to the direction
+	 * Inform if the player can move the other cell passed in parameter according to the direction<br>
+	 * The edge between the two cells is shared, so only one wall is read
 	 * @param currentCell ({@link Cell}) The current cell
 	 * @param neighbourCell ({@link Cell}) The other cell
 	 * @param direction ({@link Direction}) The direction
@@ -286,16 +499,16 @@ public class Labyrinth {
 		
 		switch(direction) {
 			case NORTH:
-				canMove = currentCell != null && neighbourCell != null && currentCell.getNorth() == CellValue.EMPTY && neighbourCell.getSouth() == CellValue.EMPTY && (neighbourCell.getValue() == CellValue.EMPTY || neighbourCell.getValue() == CellValue.CURRENT || neighbourCell.getValue() == CellValue.FRONTIER);
+				canMove = currentCell != null && neighbourCell != null && currentCell.getNorth() == CellValue.EMPTY && (neighbourCell.getValue() == CellValue.EMPTY || neighbourCell.getValue() == CellValue.CURRENT || neighbourCell.getValue() == CellValue.FRONTIER);
 				break;
 			case SOUTH:
-				canMove = currentCell != null && neighbourCell != null && currentCell.getSouth() == CellValue.EMPTY && neighbourCell.getNorth() == CellValue.EMPTY && (neighbourCell.getValue() == CellValue.EMPTY || neighbourCell.getValue() == CellValue.CURRENT || neighbourCell.getValue() == CellValue.FRONTIER);
+				canMove = currentCell != null && neighbourCell != null && currentCell.getSouth() == CellValue.EMPTY && (neighbourCell.getValue() == CellValue.EMPTY || neighbourCell.getValue() == CellValue.CURRENT || neighbourCell.getValue() == CellValue.FRONTIER);
 				break;
 			case EAST:
-				canMove = currentCell != null && neighbourCell != null && currentCell.getEast() == CellValue.EMPTY && neighbourCell.getWest() == CellValue.EMPTY && (neighbourCell.getValue() == CellValue.EMPTY || neighbourCell.getValue() == CellValue.CURRENT || neighbourCell.getValue() == CellValue.FRONTIER);
+				canMove = currentCell != null && neighbourCell != null && currentCell.getEast() == CellValue.EMPTY && (neighbourCell.getValue() == CellValue.EMPTY || neighbourCell.getValue() == CellValue.CURRENT || neighbourCell.getValue() == CellValue.FRONTIER);
 				break;
 			case WEST:
-				canMove = currentCell != null && neighbourCell != null && currentCell.getWest() == CellValue.EMPTY && neighbourCell.getEast() == CellValue.EMPTY && (neighbourCell.getValue() == CellValue.EMPTY || neighbourCell.getValue() == CellValue.CURRENT || neighbourCell.getValue() == CellValue.FRONTIER);
+				canMove = currentCell != null && neighbourCell != null && currentCell.getWest() == CellValue.EMPTY && (neighbourCell.getValue() == CellValue.EMPTY || neighbourCell.getValue() == CellValue.CURRENT || neighbourCell.getValue() == CellValue.FRONTIER);
 				break;
 		}
 		
@@ -308,12 +521,105 @@ public class Labyrinth {
 	 * @param stepByStep (boolean) The algorithm sleeps between iterations to demonstrate how it works (to be run by an independent Thread)
 	 */
 	public void generate(long seed, boolean stepByStep) {
+		this.generate(seed, new GenerationContext(stepByStep));
+	}
+	
+	/**
+	 * Generate the labyrinth with the context passed in parameter
+	 * @param seed (long) Value for the pseudo-random number generator (two same seeds == same labyrinth generated (if start and end positions are identical, same grid size, same algorithm))
+	 * @param context ({@link GenerationContext}) The context of the generation, which can be stopped with {@link #stopGeneration()}
+	 */
+	public void generate(long seed, GenerationContext context) {
+		this.generationContext = context;
+		this.seed = seed;
 		Random random = new Random(seed);
 		this.getCell(this.startPosition).setValue(CellValue.EMPTY);
-		algorithm.generate(this, random, this.startPosition, this.endPosition, stepByStep);
+		algorithm.generate(this, random, this.startPosition, this.endPosition, context);
 		this.generationFinished = true;
+		if(this.connectivityIndex != null) this.connectivityIndex.invalidate();
 	}
 
+	/**
+	 * Mark the labyrinth as generated without running its generation algorithm (when its walls were loaded from a file)
+	 * @param seed (long) The seed used to generate the walls
+	 */
+	void setGenerated(long seed) {
+		this.seed = seed;
+		this.generationFinished = true;
+		if(this.connectivityIndex != null) this.connectivityIndex.invalidate();
+	}
+	
+	/**
+	 * Get the seed of the last generation
+	 * @return (long) The seed
+	 */
+	public long getSeed() {
+		return this.seed;
+	}
+	
+	/**
+	 * Get the generation algorithm
+	 * @return ({@link GenerationAlgorithmStrategy}) The algorithm
+	 */
+	public GenerationAlgorithmStrategy getGenerationAlgorithm() {
+		return this.algorithm;
+	}
+	
+	/**
+	 * Get the solving algorithm
+	 * @return ({@link SolvingAlgorithmStrategy}) The algorithm
+	 */
+	public SolvingAlgorithmStrategy getSolvingAlgorithm() {
+		return this.solver;
+	}
+	
+	/**
+	 * Get the packed storage of the cells
+	 * @return ({@link CellGrid}) The grid
+	 */
+	CellGrid getGrid() {
+		return this.grid;
+	}
+	
+	/**
+	 * Get the index of the cells connected to each other
+	 * @return ({@link ConnectivityIndex}) The index, null if it is disabled
+	 */
+	public ConnectivityIndex getConnectivityIndex() {
+		return this.connectivityIndex;
+	}
+	
+	/**
+	 * Enable or disable the index of the cells connected to each other<br>
+	 * When enabled, the index is maintained as the player crosses cells, and {@link Player#isBlocked()} uses it instead of {@link Player#checkBlocked()}<br>
+	 * Disabled by default
+	 * @param enabled (boolean) true to enable the index, false to disable it
+	 */
+	public void setConnectivityIndexEnabled(boolean enabled) {
+		if(enabled && this.connectivityIndex == null) {
+			this.connectivityIndex = new ConnectivityIndex(this);
+		} else if(!enabled) {
+			this.connectivityIndex = null;
+		}
+	}
+	
+	/**
+	 * Inform if the index of the cells connected to each other is enabled
+	 * @return (boolean) true if the index is enabled, false otherwise
+	 */
+	public boolean isConnectivityIndexEnabled() {
+		return this.connectivityIndex != null;
+	}
+	
+	/**
+	 * Stop the generation of the labyrinth, if it is running<br>
+	 * {@link GenerationContext#stop()}
+	 */
+	public void stopGeneration() {
+		GenerationContext context = this.generationContext;
+		if(context != null) context.stop();
+	}
+	
 	/**
 	 * Inform if the generation of the labyrinth is finished
 	 * @return (boolean) true if the generation is finished, false otherwise
@@ -324,11 +630,43 @@ public class Labyrinth {
 	
 	/**
 	 * Calculate a path to the exit and return this path.<br>
-	 * Return null if no path was found.
-	 * @return ({@link Queue} of {@link Position}) The path
+	 * Return null if no path was found.<br>
+	 * Only one search runs at a time : if another search is running, waits for its end before searching
+	 * @return ({@link Queue} of {@link Position}) The path, null if no path was found, if the search was stopped or if the current thread was interrupted while waiting
 	 */
 	public Queue<Position> getPath() {
-		return this.solver.getPath(this);
+		SolvingContext context = new SolvingContext(this.solver.isStepByStep());
+		
+		synchronized(this) {
+			try {
+				while(this.solvingContext != null) {
+					this.wait();
+				}
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			
+			this.solvingContext = context;
+		}
+		
+		try {
+			return this.solver.getPath(this, context);
+		} finally {
+			synchronized(this) {
+				this.solvingContext = null;
+				this.notifyAll();
+			}
+		}
+	}
+	
+	/**
+	 * Stop the search of a path, if it is running<br>
+	 * {@link SolvingContext#stop()}
+	 */
+	public void stopSolving() {
+		SolvingContext context = this.solvingContext;
+		if(context != null) context.stop();
 	}
 	
 	/**
@@ -336,9 +674,19 @@ public class Labyrinth {
 	 * @return (boolean) true if the computer search a path, false otherwise
 	 */
 	public boolean isSearchingPath() {
-		return this.solver.isSearchingPath();
+		return this.solvingContext != null;
 	}
 
+	/**
+	 * Get the junctions of the walls at the west, north and north-west of each cell, as drawn by the views (the walls on the borders of the labyrinth are not included)<br>
+	 * One byte per cell, indexed by <code>y * width + x</code>, combining {@link #JUNCTION_WEST}, {@link #JUNCTION_NORTH} and {@link #JUNCTION_NORTH_WEST}<br>
+	 * The array is computed once, then updated incrementally when a wall changes, so it can be read at each frame without allocation
+	 * @return (byte[]) The junctions, not copied : must not be modified
+	 */
+	public byte[] getJunctions() {
+		return this.grid.getJunctions();
+	}
+	
 	/**
 	 * Get CellValue ({@link CellValue#WALL} or {@link CellValue#EMPTY}) of all the edges around the current cell<br>
 	 * Used to display the labyrinth
@@ -348,11 +696,12 @@ public class Labyrinth {
 	 * {@link CellValue}[2] = The north-west value
 	 */
 	public CellValue[][][] getAllCellsAround() {
-		CellValue[][][] res = new CellValue[this.getHeight()][this.getWidth()][3];
+		CellValue[][][] res = new CellValue[this.getHeight()][this.getWidth()][];
+		byte[] junctions = this.getJunctions();
 		
 		for(int i = 0; i < this.getHeight(); i++) {
 			for(int j = 0; j < this.getWidth(); j++) {
-				res[i][j] = this.getCellAround(new Position(j, i));
+				res[i][j] = getCellAround(junctions[i * this.getWidth() + j]);
 			}
 		}
 		
@@ -369,79 +718,22 @@ public class Labyrinth {
 	 * {@link CellValue}[2] = The north-west value
 	 */
 	public CellValue[] getCellAround(Position pos) {
+		return getCellAround(this.getJunctions()[this.getIndex(pos)]);
+	}
+	
+	private static CellValue[] getCellAround(byte junction) {
 		CellValue[] res = new CellValue[3];
-		
-		Cell c = this.getCell(pos);
-		
-		Position posWest = this.getNeighbour(pos, Direction.WEST, null);
-		Cell cWest = this.getCell(posWest);
-		CellValue vWest = (cWest != null && c.getWest() == CellValue.WALL && cWest.getEast() == CellValue.WALL) ? CellValue.WALL : CellValue.EMPTY;
-		
-		res[0] = vWest;
-		
-		Position posNorth = this.getNeighbour(pos, null, Direction.NORTH);
-		Cell cNorth = this.getCell(posNorth);
-		CellValue vNorth = (cNorth != null && c.getNorth() == CellValue.WALL && cNorth.getSouth() == CellValue.WALL) ? CellValue.WALL : CellValue.EMPTY;
-		
-		res[1] = vNorth;
-		
-		CellValue vNorthWest = (vWest == CellValue.WALL || vNorth == CellValue.WALL || (posNorth != null && this.getCellAround(posNorth)[0] == CellValue.WALL) || (posWest != null && this.getCellAround(posWest)[1] == CellValue.WALL)) ? CellValue.WALL : CellValue.EMPTY;
-		
-		res[2] = vNorthWest;
+		res[0] = (junction & JUNCTION_WEST) != 0 ? CellValue.WALL : CellValue.EMPTY;
+		res[1] = (junction & JUNCTION_NORTH) != 0 ? CellValue.WALL : CellValue.EMPTY;
+		res[2] = (junction & JUNCTION_NORTH_WEST) != 0 ? CellValue.WALL : CellValue.EMPTY;
 		
 		return res;
 	}
 
+	/**
+	 * Render the labyrinth as text, see {@link LabyrinthTextRenderer}
+	 */
 	public String toString() {
-		String res = "+";
-		for(int i = 0; i < this.getWidth(); i++) res += "--+";
-		
-		for(int i = 0; i < this.getHeight(); i++) {
-			res += "\n|";
-			
-			for(int j = 0; j < this.getWidth(); j++) {
-				Position pos = new Position(j, i);
-				Cell c = this.getCell(pos);
-				Position posEst = this.getNeighbour(pos, Direction.EAST, Direction.EAST);
-				Cell cEst = this.getCell(posEst);
-				
-				if(pos.equals(this.getPlayer().getPosition())) {
-					res += "00";
-				} else {
-					if(c.getValue() == CellValue.WALL) res += "##";
-					if(c.getValue() == CellValue.EMPTY) res += "  ";
-					if(c.getValue() == CellValue.CROSSED) res += "~~";
-					if(c.getValue() == CellValue.CURRENT) res += "//";
-					if(c.getValue() == CellValue.FRONTIER) res += "--";
-				}
-				
-				if((posEst != null && posEst.equals(pos)) || ((c != null && c.getEast() == CellValue.WALL) || (cEst != null && cEst.getWest() == CellValue.WALL))) {
-					res += "|";
-				} else {
-					res += " ";
-				}
-			}
-			
-			res += "\n";
-			
-			for(int j = 0; j < this.getWidth(); j++) {
-				Position pos = new Position(j, i);
-				Cell c = this.getCell(pos);
-				Position posSud = this.getNeighbour(pos, Direction.SOUTH, Direction.SOUTH);
-				Cell cSud = this.getCell(posSud);
-				
-				res += "+";
-				
-				if((posSud != null && posSud.equals(pos)) || ((c != null && c.getSouth() == CellValue.WALL) || (cSud != null && cSud.getNorth() == CellValue.WALL))) {
-					res += "--";
-				} else {
-					res += "  ";
-				}
-			}
-			
-			res += "+";
-		}
-		
-		return res;
+		return new LabyrinthTextRenderer().render(this);
 	}
 }
\ No newline at end of file
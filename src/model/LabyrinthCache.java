@@ -0,0 +1,180 @@
+package model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import model.util.Position;
+
+/**
+ * A cache of generated labyrinths, addressed by the parameters of their generation (see {@link LabyrinthSnapshot.Key})<br>
+ * The labyrinths are stored as immutable {@link LabyrinthSnapshot}, restored by copy-on-write instead of being generated again<br>
+ * The cache is bounded by the total number of cells of its labyrinths : the least recently used labyrinths are evicted first
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class LabyrinthCache {
+	private final long maxCells;
+	private final LinkedHashMap<LabyrinthSnapshot.Key, LabyrinthSnapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true); // In access order
+	private long cellCount = 0;
+	private long hitCount = 0;
+	private long missCount = 0;
+	private long evictionCount = 0;
+	
+	/**
+	 * Construct a new empty cache
+	 * @param maxCells (long) The maximum total number of cells of the labyrinths in the cache
+	 */
+	public LabyrinthCache(long maxCells) {
+		if(maxCells <= 0) throw new IllegalArgumentException("Invalid cache size: " + maxCells);
+		this.maxCells = maxCells;
+	}
+	
+	/**
+	 * Get a labyrinth : restored from the cache if it was already generated, otherwise generated then added to the cache
+	 * @param width (int) The width of the labyrinth
+	 * @param height (int) The height of the labyrinth
+	 * @param startPosition ({@link Position}) The start position
+	 * @param endPosition ({@link Position}) The end position
+	 * @param algorithm ({@link GenerationAlgorithmStrategy}) The generation algorithm
+	 * @param solver ({@link SolvingAlgorithmStrategy}) The solving algorithm
+	 * @param enableAutoPlayer (boolean) false if the auto player must be forbidden for this labyrinth, true otherwise
+	 * @param seed (long) The seed of the generation
+	 * @return ({@link Labyrinth}) The labyrinth, generated
+	 */
+	public Labyrinth getLabyrinth(int width, int height, Position startPosition, Position endPosition, GenerationAlgorithmStrategy algorithm, SolvingAlgorithmStrategy solver, boolean enableAutoPlayer, long seed) {
+		LabyrinthSnapshot snapshot = this.get(new LabyrinthSnapshot.Key(algorithm.getClass(), width, height, startPosition, endPosition, seed));
+		if(snapshot != null) return snapshot.restore(algorithm, solver, enableAutoPlayer);
+		
+		Labyrinth labyrinth = new Labyrinth(width, height, startPosition, endPosition, algorithm, solver, enableAutoPlayer);
+		labyrinth.generate(seed, false);
+		this.put(labyrinth);
+		
+		return labyrinth;
+	}
+	
+	/**
+	 * Get the snapshot of a labyrinth, and mark it as the most recently used
+	 * @param key ({@link LabyrinthSnapshot.Key}) The parameters of the generation of the labyrinth
+	 * @return ({@link LabyrinthSnapshot}) The snapshot, or null if the labyrinth is not in the cache
+	 */
+	public synchronized LabyrinthSnapshot get(LabyrinthSnapshot.Key key) {
+		LabyrinthSnapshot snapshot = this.snapshots.get(key);
+		
+		if(snapshot != null) {
+			this.hitCount++;
+		} else {
+			this.missCount++;
+		}
+		
+		return snapshot;
+	}
+	
+	/**
+	 * Inform if a labyrinth is in the cache, without changing its order or the metrics
+	 * @param key ({@link LabyrinthSnapshot.Key}) The parameters of the generation of the labyrinth
+	 * @return (boolean) true if the labyrinth is in the cache, false otherwise
+	 */
+	public synchronized boolean contains(LabyrinthSnapshot.Key key) {
+		return this.snapshots.containsKey(key);
+	}
+	
+	/**
+	 * Add a generated labyrinth to the cache (a snapshot of its current cells is taken), then evict the least recently used labyrinths if the cache is full<br>
+	 * A labyrinth bigger than the cache is not added
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth, generated and not yet modified by the player
+	 */
+	public void put(Labyrinth labyrinth) {
+		if(labyrinth.getCellCount() > this.maxCells) return;
+		this.put(LabyrinthSnapshot.of(labyrinth));
+	}
+	
+	/**
+	 * Add a snapshot to the cache, then evict the least recently used labyrinths if the cache is full<br>
+	 * A snapshot bigger than the cache is not added
+	 * @param snapshot ({@link LabyrinthSnapshot}) The snapshot
+	 */
+	public synchronized void put(LabyrinthSnapshot snapshot) {
+		if(snapshot.getCellCount() > this.maxCells) return;
+		
+		LabyrinthSnapshot previous = this.snapshots.put(snapshot.getKey(), snapshot);
+		if(previous != null) this.cellCount -= previous.getCellCount();
+		this.cellCount += snapshot.getCellCount();
+		
+		for(Iterator<LabyrinthSnapshot> it = this.snapshots.values().iterator(); this.cellCount > this.maxCells && it.hasNext();) {
+			this.cellCount -= it.next().getCellCount();
+			this.evictionCount++;
+			it.remove();
+		}
+	}
+	
+	/**
+	 * Remove all the labyrinths of the cache (the metrics are kept)
+	 */
+	public synchronized void clear() {
+		this.snapshots.clear();
+		this.cellCount = 0;
+	}
+	
+	/**
+	 * Get the number of labyrinths in the cache
+	 * @return (int) The number of labyrinths
+	 */
+	public synchronized int size() {
+		return this.snapshots.size();
+	}
+	
+	/**
+	 * Get the total number of cells of the labyrinths in the cache
+	 * @return (long) The number of cells
+	 */
+	public synchronized long getCellCount() {
+		return this.cellCount;
+	}
+	
+	/**
+	 * Get the maximum total number of cells of the labyrinths in the cache
+	 * @return (long) The number of cells
+	 */
+	public long getMaxCells() {
+		return this.maxCells;
+	}
+	
+	/**
+	 * Get the number of labyrinths found in the cache
+	 * @return (long) The number of hits
+	 */
+	public synchronized long getHitCount() {
+		return this.hitCount;
+	}
+	
+	/**
+	 * Get the number of labyrinths not found in the cache
+	 * @return (long) The number of misses
+	 */
+	public synchronized long getMissCount() {
+		return this.missCount;
+	}
+	
+	/**
+	 * Get the number of labyrinths evicted from the cache because it was full
+	 * @return (long) The number of evictions
+	 */
+	public synchronized long getEvictionCount() {
+		return this.evictionCount;
+	}
+	
+	/**
+	 * Get the ratio of the labyrinths found in the cache
+	 * @return (double) The hit ratio, between 0 and 1 (0 if the cache was never queried)
+	 */
+	public synchronized double getHitRatio() {
+		long requests = this.hitCount + this.missCount;
+		return requests == 0 ? 0 : (double) this.hitCount / requests;
+	}
+	
+	@Override
+	public synchronized String toString() {
+		return String.format("%d labyrinths, %d/%d cells, %d hits, %d misses, %d evictions", this.snapshots.size(), this.cellCount, this.maxCells, this.hitCount, this.missCount, this.evictionCount);
+	}
+}
\ No newline at end of file
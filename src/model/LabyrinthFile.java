@@ -0,0 +1,206 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import model.generationAlgorithm.GrowingTree;
+import model.solvingAlgorithm.AStar;
+import model.util.Position;
+
+/**
+ * Save and load a generated labyrinth in a versioned binary format<br>
+ * The file is read and written through a memory-mapped {@link FileChannel}, all the values are little-endian :<br>
+ * - the magic number "LBYM" (4 bytes), the version of the format (short) and the flags (short, see {@link #FLAG_WALL_CELLS})<br>
+ * - the width and the height (int), the start and end positions (4 int : x then y)<br>
+ * - the seed (long), the class name of the generation algorithm (short length, then UTF-8 bytes), padded with zeros to a multiple of 8 bytes<br>
+ * - the bitsets of the horizontal walls then of the vertical walls (long words), as stored by the labyrinth<br>
+ * - if the flag {@link #FLAG_WALL_CELLS} is set, a bitset of the cells whose value is {@link CellValue#WALL} (long words), the other cells are {@link CellValue#EMPTY}<br>
+ * The walls are copied in bulk from the mapped file, so loading a labyrinth costs only a few memory copies, whatever its generation algorithm
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class LabyrinthFile {
+	private static final byte[] MAGIC = {'L', 'B', 'Y', 'M'};
+	/**
+	 * The current version of the format
+	 */
+	public static final short VERSION = 1;
+	/**
+	 * Flag set when some cells are walls (obstacles), in addition to the walls between the cells
+	 */
+	public static final short FLAG_WALL_CELLS = 1;
+	
+	private LabyrinthFile() {}
+	
+	/**
+	 * Save a generated labyrinth in a file (the crossed cells and the position of the player are not saved)
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @param path ({@link Path}) The file, replaced if it exists
+	 * @throws IOException If the file can't be written
+	 */
+	public static void save(Labyrinth labyrinth, Path path) throws IOException {
+		if(!labyrinth.isGenerationFinished()) throw new IllegalStateException("The labyrinth is not generated");
+		
+		CellGrid grid = labyrinth.getGrid();
+		byte[] generator = labyrinth.getGenerationAlgorithm().getClass().getName().getBytes(StandardCharsets.UTF_8);
+		long[] horizontalWalls = grid.getHorizontalWalls();
+		long[] verticalWalls = grid.getVerticalWalls();
+		long[] wallCells = wallCells(labyrinth);
+		int headerSize = headerSize(generator.length);
+		long size = headerSize + 8L * (horizontalWalls.length + verticalWalls.length + (wallCells != null ? wallCells.length : 0));
+		
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, size);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			
+			buffer.put(MAGIC);
+			buffer.putShort(VERSION);
+			buffer.putShort(wallCells != null ? FLAG_WALL_CELLS : 0);
+			buffer.putInt(labyrinth.getWidth());
+			buffer.putInt(labyrinth.getHeight());
+			buffer.putInt(labyrinth.getStartPosition().getX());
+			buffer.putInt(labyrinth.getStartPosition().getY());
+			buffer.putInt(labyrinth.getEndPosition().getX());
+			buffer.putInt(labyrinth.getEndPosition().getY());
+			buffer.putLong(labyrinth.getSeed());
+			buffer.putShort((short) generator.length);
+			buffer.put(generator);
+			buffer.position(headerSize);
+			
+			LongBuffer words = buffer.asLongBuffer().put(horizontalWalls).put(verticalWalls);
+			if(wallCells != null) words.put(wallCells);
+			buffer.force();
+		}
+	}
+	
+	/**
+	 * Load a labyrinth from a file<br>
+	 * The generation algorithm is created from its class name, or is a {@link GrowingTree} if the class doesn't exist anymore
+	 * @param path ({@link Path}) The file
+	 * @param solver ({@link SolvingAlgorithmStrategy}) The solving algorithm of the labyrinth
+	 * @param enableAutoPlayer (boolean) false if the auto player must be forbidden for this labyrinth, true otherwise
+	 * @return ({@link Labyrinth}) The labyrinth, generated
+	 * @throws IOException If the file can't be read, is not a labyrinth file of a supported version, or its header is inconsistent (size, positions, length of the file)
+	 */
+	public static Labyrinth load(Path path, SolvingAlgorithmStrategy solver, boolean enableAutoPlayer) throws IOException {
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			
+			try {
+				byte[] magic = new byte[MAGIC.length];
+				buffer.get(magic);
+				
+				for(int i = 0; i < MAGIC.length; i++) {
+					if(magic[i] != MAGIC[i]) throw new IOException("Not a labyrinth file: " + path);
+				}
+				
+				short version = buffer.getShort();
+				if(version != VERSION) throw new IOException("Unsupported labyrinth file version: " + version);
+				short flags = buffer.getShort();
+				
+				int width = buffer.getInt();
+				int height = buffer.getInt();
+				Position start = new Position(buffer.getInt(), buffer.getInt());
+				Position end = new Position(buffer.getInt(), buffer.getInt());
+				long seed = buffer.getLong();
+				byte[] generator = new byte[buffer.getShort()];
+				buffer.get(generator);
+				buffer.position(headerSize(generator.length));
+				
+				// Check the header before allocating the labyrinth
+				if(width <= 0 || height <= 0 || (width <= 1 && height <= 1) || (width + 1L) * (height + 1L) > Integer.MAX_VALUE) throw new IOException("Invalid labyrinth size: " + width + "x" + height);
+				if(!isInside(start, width, height) || !isInside(end, width, height)) throw new IOException("Invalid start or end position: " + start + ", " + end);
+				
+				long size = headerSize(generator.length) + 8 * (wordCount((long) (height + 1) * width) + wordCount((long) height * (width + 1)) + ((flags & FLAG_WALL_CELLS) != 0 ? wordCount((long) width * height) : 0));
+				if(size != channel.size()) throw new IOException("Invalid labyrinth file size: " + channel.size() + " bytes, " + size + " expected");
+				
+				// Read in new arrays, wrapped by the grid of the labyrinth without copy
+				byte[] values = new byte[width * height];
+				long[] horizontalWalls = new long[(int) wordCount((long) (height + 1) * width)];
+				long[] verticalWalls = new long[(int) wordCount((long) height * (width + 1))];
+				
+				LongBuffer words = buffer.asLongBuffer().get(horizontalWalls).get(verticalWalls);
+				Arrays.fill(values, (byte) CellValue.EMPTY.ordinal());
+				
+				if((flags & FLAG_WALL_CELLS) != 0) {
+					long[] wallCells = new long[(values.length + 63) >>> 6];
+					words.get(wallCells);
+					
+					for(int i = 0; i < values.length; i++) {
+						if((wallCells[i >>> 6] & (1L << i)) != 0) values[i] = (byte) CellValue.WALL.ordinal();
+					}
+				}
+				
+				Labyrinth labyrinth = new Labyrinth(new CellGrid(width, height, values, horizontalWalls, verticalWalls, false), start, end, createAlgorithm(new String(generator, StandardCharsets.UTF_8)), solver, false, enableAutoPlayer);
+				labyrinth.setGenerated(seed);
+				
+				return labyrinth;
+			} catch(RuntimeException e) { // Buffer underflow, invalid size or position
+				throw new IOException("Invalid labyrinth file: " + path, e);
+			}
+		}
+	}
+	
+	/**
+	 * Load a labyrinth from a file, solved with the A* algorithm
+	 * @param path ({@link Path}) The file
+	 * @return ({@link Labyrinth}) The labyrinth, generated
+	 * @throws IOException If the file can't be read, is not a labyrinth file of a supported version, or its header is inconsistent
+	 */
+	public static Labyrinth load(Path path) throws IOException {
+		return load(path, new AStar(), true);
+	}
+	
+	/**
+	 * Get the bitset of the cells whose value is {@link CellValue#WALL}
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @return (long[]) The bitset, null if no cell is a wall
+	 */
+	private static long[] wallCells(Labyrinth labyrinth) {
+		long[] wallCells = null;
+		
+		for(int i = 0; i < labyrinth.getCellCount(); i++) {
+			if(labyrinth.getValue(i) == CellValue.WALL) {
+				if(wallCells == null) wallCells = new long[(labyrinth.getCellCount() + 63) >>> 6];
+				wallCells[i >>> 6] |= 1L << i;
+			}
+		}
+		
+		return wallCells;
+	}
+	
+	private static GenerationAlgorithmStrategy createAlgorithm(String className) {
+		try {
+			return Class.forName(className).asSubclass(GenerationAlgorithmStrategy.class).getConstructor().newInstance();
+		} catch(ReflectiveOperationException | ClassCastException e) {
+			return new GrowingTree();
+		}
+	}
+	
+	private static boolean isInside(Position position, int width, int height) {
+		return position.getX() >= 0 && position.getX() < width && position.getY() >= 0 && position.getY() < height;
+	}
+	
+	private static long wordCount(long bits) {
+		return (bits + 63) >>> 6;
+	}
+	
+	/**
+	 * Get the size of the header, padded to a multiple of 8 bytes so the walls are aligned
+	 * @param generatorLength (int) The length of the class name of the generation algorithm, in bytes
+	 * @return (int) The size in bytes
+	 */
+	private static int headerSize(int generatorLength) {
+		return (42 + generatorLength + 7) & ~7;
+	}
+}
@@ -0,0 +1,162 @@
+package model;
+
+import java.util.Objects;
+
+import model.util.Position;
+
+/**
+ * An immutable copy of a generated labyrinth : its cells, its walls and the parameters of its generation<br>
+ * A snapshot can be restored many times : the restored labyrinths share the arrays of the snapshot until they are modified (copy-on-write),
+ * so restoring a labyrinth costs no generation and no copy until the player moves
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public final class LabyrinthSnapshot {
+	private final Key key;
+	private final byte[] values;
+	private final long[] horizontalWalls;
+	private final long[] verticalWalls;
+	private final MazeTopology topology;
+	
+	private LabyrinthSnapshot(Key key, byte[] values, long[] horizontalWalls, long[] verticalWalls) {
+		this.key = key;
+		this.values = values;
+		this.horizontalWalls = horizontalWalls;
+		this.verticalWalls = verticalWalls;
+		this.topology = new MazeTopology(new CellGrid(key.width, key.height, values, horizontalWalls, verticalWalls), key.getStartPosition(), key.getEndPosition(), key.seed);
+	}
+	
+	/**
+	 * Take a snapshot of a generated labyrinth (its cells and walls are copied)
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth, generated
+	 * @return ({@link LabyrinthSnapshot}) The snapshot
+	 */
+	public static LabyrinthSnapshot of(Labyrinth labyrinth) {
+		if(!labyrinth.isGenerationFinished()) throw new IllegalStateException("The labyrinth is not generated");
+		
+		CellGrid grid = labyrinth.getGrid();
+		Key key = new Key(labyrinth.getGenerationAlgorithm().getClass(), labyrinth.getWidth(), labyrinth.getHeight(), labyrinth.getStartPosition(), labyrinth.getEndPosition(), labyrinth.getSeed());
+		
+		return new LabyrinthSnapshot(key, grid.getValues().clone(), grid.getHorizontalWalls().clone(), grid.getVerticalWalls().clone());
+	}
+	
+	/**
+	 * Build a new labyrinth from this snapshot, as if it was generated
+	 * @param algorithm ({@link GenerationAlgorithmStrategy}) The generation algorithm of the labyrinth, used if it is generated again
+	 * @param solver ({@link SolvingAlgorithmStrategy}) The solving algorithm of the labyrinth
+	 * @param enableAutoPlayer (boolean) false if the auto player must be forbidden for this labyrinth, true otherwise
+	 * @return ({@link Labyrinth}) The labyrinth
+	 */
+	public Labyrinth restore(GenerationAlgorithmStrategy algorithm, SolvingAlgorithmStrategy solver, boolean enableAutoPlayer) {
+		Labyrinth labyrinth = new Labyrinth(new CellGrid(this.key.width, this.key.height, this.values, this.horizontalWalls, this.verticalWalls), this.key.getStartPosition(), this.key.getEndPosition(), algorithm, solver, false, enableAutoPlayer);
+		labyrinth.setGenerated(this.key.seed);
+		
+		return labyrinth;
+	}
+	
+	/**
+	 * Get the topology of the labyrinth, sharing the arrays of this snapshot
+	 * @return ({@link MazeTopology}) The topology, to play any number of {@link PlaySession} on this labyrinth
+	 */
+	public MazeTopology getTopology() {
+		return this.topology;
+	}
+	
+	/**
+	 * Get the parameters of the generation of the labyrinth
+	 * @return ({@link Key}) The key
+	 */
+	public Key getKey() {
+		return this.key;
+	}
+	
+	/**
+	 * Get the number of cells of the labyrinth
+	 * @return (int) The number of cells
+	 */
+	public int getCellCount() {
+		return this.values.length;
+	}
+	
+	/**
+	 * The parameters identifying a generated labyrinth : two labyrinths generated with the same parameters are identical
+	 * @author Eliastik
+	 * @version 1.1
+	 * @since 17/10/2026
+	 */
+	public static final class Key {
+		private final Class<? extends GenerationAlgorithmStrategy> generator;
+		private final int width;
+		private final int height;
+		private final int startX;
+		private final int startY;
+		private final int endX;
+		private final int endY;
+		private final long seed;
+		
+		/**
+		 * Construct a new key
+		 * @param generator (Class&lt;? extends {@link GenerationAlgorithmStrategy}&gt;) The class of the generation algorithm
+		 * @param width (int) The width of the labyrinth
+		 * @param height (int) The height of the labyrinth
+		 * @param startPosition ({@link Position}) The start position
+		 * @param endPosition ({@link Position}) The end position
+		 * @param seed (long) The seed of the generation
+		 */
+		public Key(Class<? extends GenerationAlgorithmStrategy> generator, int width, int height, Position startPosition, Position endPosition, long seed) {
+			this.generator = generator;
+			this.width = width;
+			this.height = height;
+			this.startX = startPosition.getX();
+			this.startY = startPosition.getY();
+			this.endX = endPosition.getX();
+			this.endY = endPosition.getY();
+			this.seed = seed;
+		}
+		
+		/**
+		 * Get the start position
+		 * @return ({@link Position}) A copy of the position
+		 */
+		public Position getStartPosition() {
+			return new Position(this.startX, this.startY);
+		}
+		
+		/**
+		 * Get the end position
+		 * @return ({@link Position}) A copy of the position
+		 */
+		public Position getEndPosition() {
+			return new Position(this.endX, this.endY);
+		}
+		
+		/**
+		 * Get the number of cells of the labyrinth
+		 * @return (int) The number of cells
+		 */
+		public int getCellCount() {
+			return this.width * this.height;
+		}
+		
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.generator, this.width, this.height, this.startX, this.startY, this.endX, this.endY, this.seed);
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if(this == obj) return true;
+			if(!(obj instanceof Key)) return false;
+			
+			Key other = (Key) obj;
+			return this.generator == other.generator && this.width == other.width && this.height == other.height && this.startX == other.startX
+					&& this.startY == other.startY && this.endX == other.endX && this.endY == other.endY && this.seed == other.seed;
+		}
+		
+		@Override
+		public String toString() {
+			return this.generator.getSimpleName() + " " + this.width + "x" + this.height + " (" + this.startX + ", " + this.startY + ") -> (" + this.endX + ", " + this.endY + ") seed " + this.seed;
+		}
+	}
+}
\ No newline at end of file
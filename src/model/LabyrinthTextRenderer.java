@@ -0,0 +1,138 @@
+package model;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+import model.util.Direction;
+import model.util.Position;
+
+/**
+ * Render a labyrinth as text, row by row<br>
+ * Each line of text is built in a reusable buffer then written to the output, so the rendering is linear in the size of the labyrinth and uses a constant memory (one line)<br>
+ * The lines are separated by '\n', the last line is not terminated
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class LabyrinthTextRenderer {
+	private char[] row = new char[0];
+	private CharBuffer rowSequence; // View of the buffer for the outputs other than a Writer
+	
+	/**
+	 * Write a labyrinth to an output
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @param out (Appendable) The output, written in several calls : should be buffered
+	 * @throws IOException If the output can't be written
+	 */
+	public void render(Labyrinth labyrinth, Appendable out) throws IOException {
+		int width = labyrinth.getWidth();
+		int height = labyrinth.getHeight();
+		int length = 3 * width + 1;
+		int playerIndex = -1;
+		
+		if(this.row.length < length) {
+			this.row = new char[length];
+			this.rowSequence = CharBuffer.wrap(this.row);
+		}
+		
+		if(labyrinth.getPlayer() != null) {
+			Position position = labyrinth.getPlayer().getPosition();
+			
+			if(position != null && position.getX() >= 0 && position.getX() < width && position.getY() >= 0 && position.getY() < height) {
+				playerIndex = labyrinth.getIndex(position);
+			}
+		}
+		
+		this.row[0] = '+';
+		
+		for(int x = 0; x < width; x++) {
+			this.put(1 + 3 * x, '-', '-', '+');
+		}
+		
+		this.write(out, length);
+		
+		for(int y = 0; y < height; y++) {
+			int index = y * width;
+			this.row[0] = '|';
+			
+			for(int x = 0; x < width; x++, index++) {
+				char border = labyrinth.isWall(index, Direction.EAST) ? '|' : ' ';
+				
+				if(index == playerIndex) {
+					this.put(1 + 3 * x, '0', '0', border);
+				} else {
+					char c = symbol(labyrinth.getValue(index));
+					this.put(1 + 3 * x, c, c, border);
+				}
+			}
+			
+			out.append('\n');
+			this.write(out, length);
+			
+			index = y * width;
+			
+			for(int x = 0; x < width; x++, index++) {
+				char wall = labyrinth.isWall(index, Direction.SOUTH) ? '-' : ' ';
+				this.put(3 * x, '+', wall, wall);
+			}
+			
+			this.row[length - 1] = '+';
+			out.append('\n');
+			this.write(out, length);
+		}
+	}
+	
+	/**
+	 * Render a labyrinth to a String
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @return (String) The text
+	 */
+	public String render(Labyrinth labyrinth) {
+		StringBuilder builder = new StringBuilder((3 * labyrinth.getWidth() + 2) * (2 * labyrinth.getHeight() + 1));
+		
+		try {
+			this.render(labyrinth, builder);
+		} catch(IOException e) {
+			throw new IllegalStateException(e); // Never thrown by a StringBuilder
+		}
+		
+		return builder.toString();
+	}
+	
+	private void put(int position, char first, char second, char third) {
+		this.row[position] = first;
+		this.row[position + 1] = second;
+		this.row[position + 2] = third;
+	}
+	
+	private void write(Appendable out, int length) throws IOException {
+		if(out instanceof Writer) {
+			((Writer) out).write(this.row, 0, length);
+		} else if(out instanceof StringBuilder) {
+			((StringBuilder) out).append(this.row, 0, length);
+		} else {
+			out.append(this.rowSequence, 0, length);
+		}
+	}
+	
+	/**
+	 * Get the character of a cell value (written twice per cell)
+	 * @param value ({@link CellValue}) The value of the cell
+	 * @return (char) The character
+	 */
+	private static char symbol(CellValue value) {
+		switch(value) {
+			case WALL:
+				return '#';
+			case CROSSED:
+				return '~';
+			case CURRENT:
+				return '/';
+			case FRONTIER:
+				return '-';
+			default:
+				return ' ';
+		}
+	}
+}
\ No newline at end of file
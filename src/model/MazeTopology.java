@@ -0,0 +1,165 @@
+package model;
+
+import model.util.Direction;
+import model.util.Position;
+
+/**
+ * The immutable topology of a generated labyrinth : its walls, its obstacle cells (value {@link CellValue#WALL}), its start and end positions<br>
+ * A topology holds no game state, so it can be shared by any number of threads and of {@link PlaySession}, each session storing only its own state<br>
+ * It shares the arrays of the {@link LabyrinthSnapshot} it comes from, which are never modified<br>
+ * A {@link Labyrinth} is not built on a topology : it keeps its walls and its game state in the same grid, see {@link PlaySession}
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public final class MazeTopology {
+	private final CellGrid grid; // Read only
+	private final int start;
+	private final int end;
+	private final long seed;
+	
+	/**
+	 * Construct a new topology
+	 * @param grid ({@link CellGrid}) The cells and walls, never modified
+	 * @param startPosition ({@link Position}) The start position
+	 * @param endPosition ({@link Position}) The end position
+	 * @param seed (long) The seed of the generation
+	 */
+	MazeTopology(CellGrid grid, Position startPosition, Position endPosition, long seed) {
+		this.grid = grid;
+		this.start = grid.index(startPosition.getX(), startPosition.getY());
+		this.end = grid.index(endPosition.getX(), endPosition.getY());
+		this.seed = seed;
+	}
+	
+	/**
+	 * Get the topology of a generated labyrinth (its cells and walls are copied once)
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth, generated and not yet modified by the player
+	 * @return ({@link MazeTopology}) The topology
+	 */
+	public static MazeTopology of(Labyrinth labyrinth) {
+		return LabyrinthSnapshot.of(labyrinth).getTopology();
+	}
+	
+	/**
+	 * Start a new game on this labyrinth, the player being at the start position
+	 * @return ({@link PlaySession}) The session
+	 */
+	public PlaySession newSession() {
+		return new PlaySession(this);
+	}
+	
+	/**
+	 * Get the width of the labyrinth
+	 * @return (int) The width
+	 */
+	public int getWidth() {
+		return this.grid.getWidth();
+	}
+	
+	/**
+	 * Get the height of the labyrinth
+	 * @return (int) The height
+	 */
+	public int getHeight() {
+		return this.grid.getHeight();
+	}
+	
+	/**
+	 * Get the number of cells of the labyrinth
+	 * @return (int) The number of cells
+	 */
+	public int getCellCount() {
+		return this.grid.getWidth() * this.grid.getHeight();
+	}
+	
+	/**
+	 * Return the index of the cell at the coordinates passed in parameter
+	 * @param x (int) The abscissa
+	 * @param y (int) The ordinate
+	 * @return (int) The index
+	 */
+	public int getIndex(int x, int y) {
+		return this.grid.index(x, y);
+	}
+	
+	/**
+	 * Get the position of the cell at the index passed in parameter
+	 * @param index (int) The index of the cell
+	 * @return ({@link Position}) The position
+	 */
+	public Position getPosition(int index) {
+		return new Position(index % this.grid.getWidth(), index / this.grid.getWidth());
+	}
+	
+	/**
+	 * Get the index of the start cell
+	 * @return (int) The index
+	 */
+	public int getStart() {
+		return this.start;
+	}
+	
+	/**
+	 * Get the index of the end cell
+	 * @return (int) The index
+	 */
+	public int getEnd() {
+		return this.end;
+	}
+	
+	/**
+	 * Get the seed of the generation
+	 * @return (long) The seed
+	 */
+	public long getSeed() {
+		return this.seed;
+	}
+	
+	/**
+	 * Inform if there is a wall on the edge of a cell
+	 * @param index (int) The index of the cell
+	 * @param direction ({@link Direction}) The direction of the edge
+	 * @return (boolean) true if there is a wall, false otherwise
+	 */
+	public boolean isWall(int index, Direction direction) {
+		return this.grid.isWall(index, direction);
+	}
+	
+	/**
+	 * Inform if a cell is an obstacle (value {@link CellValue#WALL}), where the player can never move
+	 * @param index (int) The index of the cell
+	 * @return (boolean) true if the cell is an obstacle, false otherwise
+	 */
+	public boolean isObstacle(int index) {
+		return this.grid.getValue(index) == CellValue.WALL;
+	}
+	
+	/**
+	 * Return the index of the neighbour cell in the direction passed in parameter
+	 * @param index (int) The index of the cell from where to search
+	 * @param direction ({@link Direction}) The direction
+	 * @return (int) The index of the neighbour, or -1 if the neighbour is outside the labyrinth
+	 */
+	public int getNeighbour(int index, Direction direction) {
+		return this.grid.neighbour(index, direction);
+	}
+	
+	/**
+	 * Return the index of the neighbour cell where the player can move in the direction passed in parameter, whatever the state of the game
+	 * @param index (int) The index of the cell
+	 * @param direction ({@link Direction}) The direction
+	 * @return (int) The index of the neighbour, or -1 if there is a wall or an obstacle, or if the neighbour is outside the labyrinth
+	 */
+	public int getOpenNeighbour(int index, Direction direction) {
+		return MoveRules.getDestination(this.grid, null, index, direction);
+	}
+	
+	/**
+	 * Get the cells and walls
+	 * @return ({@link CellGrid}) The grid, must not be modified
+	 */
+	CellGrid getGrid() {
+		return this.grid;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package model;
+
+import java.util.BitSet;
+
+import model.util.Direction;
+import model.util.IntList;
+
+/**
+ * The rules of the moves of the player, shared by the {@link Player} of a {@link Labyrinth} and by the {@link PlaySession} of a {@link MazeTopology} :<br>
+ * the player moves to a neighbour cell if no wall separates them and if the neighbour is free (empty, or only marked by a step-by-step search), and never enters a crossed cell<br>
+ * A {@link Labyrinth} stores the crossed cells as {@link CellValue#CROSSED} values of its grid, a {@link PlaySession} in its own bitset, as the grid is shared by the sessions
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+final class MoveRules {
+	private MoveRules() {}
+	
+	/**
+	 * Inform if the player can enter a cell
+	 * @param value ({@link CellValue}) The value of the cell
+	 * @return (boolean) true if the cell is empty or only marked by a step-by-step search, false otherwise
+	 */
+	static boolean isFree(CellValue value) {
+		return value == CellValue.EMPTY || value == CellValue.CURRENT || value == CellValue.FRONTIER;
+	}
+	
+	/**
+	 * Get the cell where the player arrives when moving from a cell in the direction passed in parameter
+	 * @param grid ({@link CellGrid}) The cells and walls
+	 * @param crossed ({@link BitSet}) The cells crossed by the player, if they are not stored in the grid, null otherwise
+	 * @param index (int) The index of the cell of the player
+	 * @param direction ({@link Direction}) The direction
+	 * @return (int) The index of the neighbour, or -1 if the player can't move
+	 */
+	static int getDestination(CellGrid grid, BitSet crossed, int index, Direction direction) {
+		int neighbour = grid.neighbour(index, direction);
+		if(neighbour < 0 || grid.isWall(index, direction) || !isFree(grid.getValue(neighbour))) return -1;
+		if(crossed != null && crossed.get(neighbour)) return -1;
+		return neighbour;
+	}
+	
+	/**
+	 * Get the cell from where the player arrives in a cell, coming from the direction passed in parameter (the reverse of {@link #getDestination(CellGrid, BitSet, int, Direction)})<br>
+	 * The cell itself must be free, it is not checked
+	 * @param grid ({@link CellGrid}) The cells and walls
+	 * @param crossed ({@link BitSet}) The cells crossed by the player, if they are not stored in the grid, null otherwise
+	 * @param index (int) The index of the cell where the player arrives
+	 * @param direction ({@link Direction}) The direction of the origin from the cell
+	 * @param player (int) The index of the cell of the player, an origin whatever its value
+	 * @return (int) The index of the origin, or -1 if the player can't come from this direction
+	 */
+	static int getOrigin(CellGrid grid, BitSet crossed, int index, Direction direction, int player) {
+		int neighbour = grid.neighbour(index, direction);
+		if(neighbour < 0 || grid.isWall(index, direction)) return -1;
+		if(neighbour == player) return neighbour;
+		if(!isFree(grid.getValue(neighbour)) || (crossed != null && crossed.get(neighbour))) return -1;
+		return neighbour;
+	}
+	
+	/**
+	 * Inform if a path leads the player to the exit, with a flood fill from the player stopping as soon as the exit is found
+	 * @param grid ({@link CellGrid}) The cells and walls
+	 * @param crossed ({@link BitSet}) The cells crossed by the player, if they are not stored in the grid, null otherwise
+	 * @param start (int) The index of the cell of the player
+	 * @param end (int) The index of the exit
+	 * @param visited ({@link BitSet}) Scratch buffer, cleared
+	 * @param stack ({@link IntList}) Scratch buffer, cleared
+	 * @return (boolean) true if the exit can be reached, false otherwise
+	 * @see <a href="https://en.wikipedia.org/wiki/Flood_fill">https://en.wikipedia.org/wiki/Flood_fill</a>
+	 */
+	static boolean isExitReachable(CellGrid grid, BitSet crossed, int start, int end, BitSet visited, IntList stack) {
+		if(start == end) return true;
+		
+		visited.clear();
+		stack.clear();
+		visited.set(start);
+		stack.add(start);
+		
+		while(!stack.isEmpty()) {
+			int current = stack.removeLast();
+			
+			for(int d = 0; d < 4; d++) {
+				int neighbour = getDestination(grid, crossed, current, Direction.get(d));
+				
+				if(neighbour >= 0 && !visited.get(neighbour)) {
+					if(neighbour == end) return true;
+					
+					visited.set(neighbour);
+					stack.add(neighbour);
+				}
+			}
+		}
+		
+		return false;
+	}
+}
\ No newline at end of file
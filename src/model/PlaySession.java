@@ -0,0 +1,152 @@
+package model;
+
+import java.util.BitSet;
+
+import model.util.Direction;
+import model.util.IntList;
+import model.util.Position;
+
+/**
+ * The state of a game on a shared {@link MazeTopology} : the cells crossed by the player and its position<br>
+ * Same rules as a {@link Labyrinth} and its {@link Player} ({@link MoveRules}) : the player cannot move through a wall, an obstacle or a cell already crossed<br>
+ * The crossed cells are a {@link BitSet}, growing only up to the highest crossed cell : a session takes at most one bit per cell<br>
+ * A session is not thread-safe, but several sessions on the same topology can be played by different threads<br>
+ * The game itself does not run on sessions : the {@link Labyrinth}, its {@link Player}, the solving algorithms and the views still work on the cells of a {@link Labyrinth}.
+ * Sessions are meant for the headless tools replaying many games on the same labyrinth
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class PlaySession {
+	// Buffers of the blocked check, shared by the sessions played on the same thread so a session holds only its own state
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+	
+	private final MazeTopology topology;
+	private final BitSet crossed = new BitSet();
+	private int position;
+	private Direction direction = Direction.SOUTH;
+	private int moveCount = 0;
+	
+	/**
+	 * Construct a new session, the player being at the start position
+	 * @param topology ({@link MazeTopology}) The labyrinth
+	 */
+	public PlaySession(MazeTopology topology) {
+		this.topology = topology;
+		this.position = topology.getStart();
+	}
+	
+	/**
+	 * Move the player to the given direction if possible
+	 * @param direction ({@link Direction}) the direction where to move the player
+	 * @return (boolean) true if the player could have moved, false otherwise
+	 */
+	public boolean moveTo(Direction direction) {
+		this.direction = direction;
+		if(this.goalAchieved()) return false;
+		
+		int neighbour = MoveRules.getDestination(this.topology.getGrid(), this.crossed, this.position, direction);
+		if(neighbour < 0) return false;
+		
+		this.crossed.set(this.position);
+		this.position = neighbour;
+		this.moveCount++;
+		
+		return true;
+	}
+	
+	/**
+	 * Inform if the player is at the end position
+	 * @return (boolean) true if the goal is achieved, false otherwise
+	 */
+	public boolean goalAchieved() {
+		return this.position == this.topology.getEnd();
+	}
+	
+	/**
+	 * Detect if the player is blocked (if no path leads him to the exit), with a flood fill from the player stopping as soon as the exit is found<br>
+	 * The buffers of the flood fill are reused by the next checks on the same thread
+	 * @return (boolean) true if the player is blocked, false otherwise
+	 * @see <a href="https://en.wikipedia.org/wiki/Flood_fill">https://en.wikipedia.org/wiki/Flood_fill</a>
+	 */
+	public boolean isBlocked() {
+		if(this.goalAchieved()) return false;
+		
+		Scratch scratch = SCRATCH.get();
+		return !MoveRules.isExitReachable(this.topology.getGrid(), this.crossed, this.position, this.topology.getEnd(), scratch.visited, scratch.stack);
+	}
+	
+	/**
+	 * Get the value of a cell for this game
+	 * @param index (int) The index of the cell
+	 * @return ({@link CellValue}) {@link CellValue#WALL} for an obstacle, {@link CellValue#CROSSED} for a cell crossed by the player, {@link CellValue#EMPTY} otherwise
+	 */
+	public CellValue getValue(int index) {
+		if(this.topology.isObstacle(index)) return CellValue.WALL;
+		return this.crossed.get(index) ? CellValue.CROSSED : CellValue.EMPTY;
+	}
+	
+	/**
+	 * Inform if a cell was crossed by the player
+	 * @param index (int) The index of the cell
+	 * @return (boolean) true if the cell was crossed, false otherwise
+	 */
+	public boolean isCrossed(int index) {
+		return this.crossed.get(index);
+	}
+	
+	/**
+	 * Restart the game : the player goes back to the start position, no cell is crossed
+	 */
+	public void reset() {
+		this.crossed.clear();
+		this.position = this.topology.getStart();
+		this.direction = Direction.SOUTH;
+		this.moveCount = 0;
+	}
+	
+	/**
+	 * Get the labyrinth of this game
+	 * @return ({@link MazeTopology}) The topology
+	 */
+	public MazeTopology getTopology() {
+		return this.topology;
+	}
+	
+	/**
+	 * Get the index of the cell of the player
+	 * @return (int) The index
+	 */
+	public int getPositionIndex() {
+		return this.position;
+	}
+	
+	/**
+	 * Get the position of the player
+	 * @return ({@link Position}) The position
+	 */
+	public Position getPosition() {
+		return this.topology.getPosition(this.position);
+	}
+	
+	/**
+	 * Get the direction of the last move of the player
+	 * @return ({@link Direction}) The direction
+	 */
+	public Direction getDirection() {
+		return this.direction;
+	}
+	
+	/**
+	 * Get the number of moves of the player
+	 * @return (int) The number of moves
+	 */
+	public int getMoveCount() {
+		return this.moveCount;
+	}
+	
+	private static class Scratch {
+		private final BitSet visited = new BitSet();
+		private final IntList stack = new IntList();
+	}
+}
\ No newline at end of file
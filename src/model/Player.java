@@ -1,13 +1,12 @@
 package model;
 
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.BitSet;
 import java.util.Queue;
 import java.util.Random;
-import java.util.Stack;
 
 import model.util.Direction;
+import model.util.IntList;
 import model.util.Position;
 
 /**
@@ -24,6 +23,10 @@ public class Player {
 	private boolean isAutoPlayer = false;
 	private boolean blocked = false;
 	private boolean checkBlocked = false;
+	// Blocked check
+	private BitSet reachable; // The cells connected to the exit, computed by the first check after the generation
+	private boolean reachableChanged = false; // A crossed cell may have cut the cells connected to the exit
+	private final IntList crossed = new IntList(); // The cells crossed since the last check
 	
 	public Player(Position position, Direction direction, Labyrinth labyrinth) {
 		this.labyrinth = labyrinth;
@@ -45,16 +48,26 @@ public class Player {
 	}
 	
 	/**
-	 * Move the player to the given direction if possible
+	 * Move the player to the given direction if possible ({@link MoveRules})
 	 * @param direction ({@link Direction}) the direction where to move the player
 	 * @return (boolean) true if the player could have moved, false otherwise
 	 */
 	public boolean moveTo(Direction direction) {
-		boolean canMove = this.labyrinth.canMoveTo(this.labyrinth.getCell(this.getPosition()), this.labyrinth.getCell(this.labyrinth.getNeighbour(this.getPosition(), direction, direction)), direction);
+		int index = this.labyrinth.getIndex(this.getPosition());
+		int neighbour = MoveRules.getDestination(this.labyrinth.getGrid(), null, index, direction);
+		boolean canMove = neighbour >= 0;
 		
 		if(canMove) {
-			this.labyrinth.getCell(this.getPosition()).setValue(CellValue.CROSSED);
-			this.setPosition(labyrinth.getNeighbour(this.getPosition(), direction, direction));
+			this.labyrinth.setValue(index, CellValue.CROSSED);
+			
+			ConnectivityIndex connectivityIndex = this.labyrinth.getConnectivityIndex();
+			if(connectivityIndex != null) connectivityIndex.cross(index);
+			
+			synchronized(this.crossed) {
+				this.crossed.add(index);
+			}
+			
+			this.setPosition(this.labyrinth.getPosition(neighbour));
 		}
 		
 		this.setDirection(direction);
@@ -72,58 +85,124 @@ public class Player {
 	
 	/**
 	 * Detect if the player is blocked (if no path leads him to the exit)<br>
-	 * Uses a flood fill algorithm
+	 * Uses the {@link ConnectivityIndex} of the labyrinth if it is enabled, otherwise the result of the last {@link #checkBlocked()}
 	 * @return (boolean) true if the player is blocked, false otherwise
 	 * @see <a href="https://en.wikipedia.org/wiki/Flood_fill">https://en.wikipedia.org/wiki/Flood_fill</a>
 	 */
 	public boolean isBlocked() {
 		if(!this.labyrinth.isGenerationFinished()) return false;
+		
+		ConnectivityIndex connectivityIndex = this.labyrinth.getConnectivityIndex();
+		if(connectivityIndex != null) return !connectivityIndex.isConnectedToExit(this.labyrinth.getIndex(this.getPosition()));
+		
 		if(this.blocked) return true;
 		return false;
 	}
 	
 	/**
 	 * Detect if the player is blocked (if no path leads him to the exit)<br>
-	 * Uses a flood fill algorithm
+	 * The cells connected to the exit are computed once with a flood fill algorithm, then updated with the cells crossed since the last check :<br>
+	 * a crossed cell with only one neighbour connected to the exit cannot disconnect other cells, so the flood fill is done again only when
+	 * the player crossed a junction, and it stops as soon as the exit is found
 	 * @see <a href="https://en.wikipedia.org/wiki/Flood_fill">https://en.wikipedia.org/wiki/Flood_fill</a>
 	 */
 	public void checkBlocked() {
 		if(this.labyrinth.isGenerationFinished() && !this.blocked) {
 			this.checkBlocked = true;
 			
-			Stack<Position> checkList = new Stack<>();
-			checkList.add(this.getPosition());
-			List<Position> complete = new ArrayList<>();
+			int position = this.labyrinth.getIndex(this.getPosition());
+			int end = this.labyrinth.getIndex(this.labyrinth.getEndPosition());
+			
+			if(this.reachable == null) {
+				synchronized(this.crossed) {
+					this.crossed.clear();
+				}
+				
+				BitSet reachable = this.flood(end, -1, null);
+				if(!this.checkBlocked) return;
+				
+				this.reachable = reachable;
+				this.reachableChanged = false;
+			} else {
+				synchronized(this.crossed) {
+					for(int i = 0; i < this.crossed.size(); i++) {
+						this.removeReachable(this.crossed.get(i));
+					}
+					
+					this.crossed.clear();
+				}
+			}
+			
+			if(this.reachableChanged) {
+				boolean exitFound = this.flood(position, end, this.reachable).get(end);
+				if(!this.checkBlocked) return;
+				
+				this.reachableChanged = false;
+				this.blocked = !exitFound;
+			} else {
+				this.blocked = !this.reachable.get(position);
+			}
+		}
+	}
+	
+	/**
+	 * Remove a crossed cell from the cells connected to the exit
+	 * @param index (int) The index of the crossed cell
+	 */
+	private void removeReachable(int index) {
+		if(!this.reachable.get(index)) return;
+		
+		this.reachable.clear(index);
+		int neighbours = 0;
+		
+		for(int d = 0; d < 4; d++) {
+			Direction direction = Direction.get(d);
+			int neighbour = this.labyrinth.getNeighbour(index, direction);
 			
-			while(!checkList.isEmpty()) {
-		    	  if(this.blocked || !this.checkBlocked) return;
-		    	  
-			      Position currentPosition = checkList.pop();
-			      Direction[] directions = new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
+			if(neighbour >= 0 && !this.labyrinth.isWall(index, direction) && this.reachable.get(neighbour)) {
+				neighbours++;
+			}
+		}
+		
+		if(neighbours > 1) this.reachableChanged = true;
+	}
+	
+	/**
+	 * Flood fill from a cell, through the cells where the player can move
+	 * @param start (int) The index of the start cell
+	 * @param target (int) The index of the cell where to stop the flood fill, or -1 to flood all the cells
+	 * @param allowed ({@link BitSet}) If not null, the flood fill stays in these cells
+	 * @return ({@link BitSet}) The cells filled (incomplete if the check was stopped)
+	 */
+	private BitSet flood(int start, int target, BitSet allowed) {
+		BitSet filled = new BitSet(this.labyrinth.getCellCount());
+		IntList checkList = new IntList();
+		
+		filled.set(start);
+		checkList.add(start);
 		
-			      for(int i = 0; i < directions.length; i++) {
-			    	  if(this.blocked || !this.checkBlocked) return;
-			    	  
-			    	  Position pos = this.labyrinth.getNeighbour(currentPosition, directions[i], directions[i]);
-			    	  Cell c = this.labyrinth.getCell(pos);
-			    	  
-			    	  if(!checkList.contains(pos) && !complete.contains(pos) && this.labyrinth.canMoveTo(this.labyrinth.getCell(currentPosition), c, directions[i])) {
-					        if((c.getValue() == CellValue.EMPTY || pos.equals(this.labyrinth.getEndPosition()))) {
-						        checkList.add(pos);
-						        
-						        if(pos.equals(this.labyrinth.getEndPosition())) {
-						    		this.blocked = false;
-						    		return;
-						        }
-					        }
-			    	  }
-			      }
-			      
-			      complete.add(currentPosition);
-		    }
+		if(start == target) return filled;
+		
+		while(!checkList.isEmpty()) {
+			if(!this.checkBlocked) return filled;
+			
+			int current = checkList.removeLast();
 			
-			this.blocked = true;
+			for(int d = 0; d < 4; d++) {
+				Direction direction = Direction.get(d);
+				if(!this.labyrinth.canMoveTo(current, direction)) continue;
+				
+				int neighbour = this.labyrinth.getNeighbour(current, direction);
+				
+				if(!filled.get(neighbour) && (allowed == null || allowed.get(neighbour))) {
+					filled.set(neighbour);
+					if(neighbour == target) return filled;
+					checkList.add(neighbour);
+				}
+			}
 		}
+		
+		return filled;
 	}
 	
 	/**
@@ -1,5 +1,6 @@
 package model;
 
+import java.util.LinkedList;
 import java.util.Queue;
 
 import model.util.Position;
@@ -11,9 +12,7 @@ import model.util.Position;
  * @since 12/12/2019
  */
 public abstract class SolvingAlgorithmStrategy {
-	private boolean stopped = false;
-	protected boolean searchingPath = false;
-	private boolean stepByStep = false;
+	private final boolean stepByStep;
 	
 	public SolvingAlgorithmStrategy(boolean stepByStep) {
 		this.stepByStep = stepByStep;
@@ -24,58 +23,56 @@ public abstract class SolvingAlgorithmStrategy {
 	}
 	
 	/**
-	 * Solve the labyrinth
+	 * Solve the labyrinth<br>
+	 * The algorithm keeps no state between two calls, everything related to the solving is in the context
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @param context ({@link SolvingContext}) The context of this solving (cancellation, step-by-step mode, scratch buffers, statistics)
 	 * @return ({@link Queue} of {@link Position}) The path to the end position, or null if no path was found
 	 */
-	public abstract Queue<Position> getPath(Labyrinth labyrinth);
+	public abstract Queue<Position> getPath(Labyrinth labyrinth, SolvingContext context);
 	
 	/**
-	 * Clean for step-by-step algorithm
+	 * Solve the labyrinth with a new context, step-by-step if this algorithm was built to
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @return ({@link Queue} of {@link Position}) The path to the end position, or null if no path was found
 	 */
-	protected void cleanStepByStep(Labyrinth labyrinth) {
-		for(int i = 0; i < labyrinth.getHeight(); i++) {
-			for(int j = 0; j < labyrinth.getWidth(); j++) {
-				Cell cell = labyrinth.getCell(new Position(j, i));
-				
-				if(cell.getValue() == CellValue.CURRENT || cell.getValue() == CellValue.FRONTIER) {
-					cell.setValue(CellValue.EMPTY);
-				}
-			}
-		}
+	public Queue<Position> getPath(Labyrinth labyrinth) {
+		return this.getPath(labyrinth, new SolvingContext(this.stepByStep));
 	}
 	
 	/**
-	 * Stop the solving
+	 * Reconstruct the path found by an algorithm storing the parent of each cell index<br>
+	 * We begin with the end cell, then we iterate through the parent of each cell until the start cell (whose parent is -1)
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @param parents (int[]) The index of the parent of each cell, -1 for the start cell
+	 * @param end (int) The index of the end cell
+	 * @return ({@link Queue}&lt;{@link Position}&gt;) The path, from the start position to the end position
 	 */
-	public void stop() {
-		this.stopped = true;
-	}
-
-	/**
-	 * Inform if the solving is stopped
-	 * @return (boolean) true if the solving is stopped, false otherwise
-	 */
-	public boolean isStopped() {
-		return stopped;
+	protected Queue<Position> reconstructPath(Labyrinth labyrinth, int[] parents, int end) {
+		LinkedList<Position> path = new LinkedList<>();
+		
+		for(int current = end; current >= 0; current = parents[current]) {
+			path.addFirst(labyrinth.getPosition(current));
+		}
+		
+		return path;
 	}
 	
 	/**
-	 * Reverse the stop flag
-	 */
-	public void restart() {
-		this.stopped = false;
-	}
-
-	/**
-	 * Inform if the path searching process is running
-	 * @return (boolean)
+	 * Clean for step-by-step algorithm
 	 */
-	public boolean isSearchingPath() {
-		return searchingPath;
+	protected void cleanStepByStep(Labyrinth labyrinth) {
+		for(int i = 0; i < labyrinth.getCellCount(); i++) {
+			CellValue value = labyrinth.getValue(i);
+			
+			if(value == CellValue.CURRENT || value == CellValue.FRONTIER) {
+				labyrinth.setValue(i, CellValue.EMPTY);
+			}
+		}
 	}
-
+	
 	/**
-	 * Inform if the algorithm is running step-by-step
+	 * Inform if the algorithm is built to run step-by-step (when solving with a new context)
 	 * @return (boolean)
 	 */
 	public boolean isStepByStep() {
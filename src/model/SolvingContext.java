@@ -0,0 +1,161 @@
+package model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import model.util.IndexedMinHeap;
+import model.util.IntQueue;
+
+/**
+ * The state of one solving of a labyrinth : the cancellation flag, the step-by-step setting, scratch buffers and statistics<br>
+ * The solving algorithms keep no state, so the same {@link SolvingAlgorithmStrategy} can solve several labyrinths at the same time, each one with its own context<br>
+ * A context can be reused by successive solvings on the same thread to reuse its buffers, as long as it is not stopped
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class SolvingContext {
+	private final boolean stepByStep;
+	private volatile boolean stopped = false;
+	// Statistics
+	private volatile int nodesExpanded = 0;
+	// Scratch buffers, allocated at the first use and reused while the number of cells is the same
+	private int[] parents;
+	private int[] distances;
+	private BitSet visited;
+	private BitSet reverseVisited;
+	private IndexedMinHeap heap;
+	private IntQueue queue;
+	private IntQueue reverseQueue;
+	
+	/**
+	 * Construct a new context
+	 * @param stepByStep (boolean) The algorithm sleeps between iterations to demonstrate how it works (to be run by an independent Thread)
+	 */
+	public SolvingContext(boolean stepByStep) {
+		this.stepByStep = stepByStep;
+	}
+	
+	/**
+	 * Construct a new context, without step-by-step solving
+	 */
+	public SolvingContext() {
+		this(false);
+	}
+	
+	/**
+	 * Inform if the algorithm is running step-by-step
+	 * @return (boolean) true if the algorithm sleeps between iterations, false otherwise
+	 */
+	public boolean isStepByStep() {
+		return this.stepByStep;
+	}
+	
+	/**
+	 * Stop the solving<br>
+	 * Can be called from any thread
+	 */
+	public void stop() {
+		this.stopped = true;
+	}
+	
+	/**
+	 * Inform if the solving is stopped
+	 * @return (boolean) true if the solving is stopped, false otherwise
+	 */
+	public boolean isStopped() {
+		return this.stopped;
+	}
+	
+	/**
+	 * Count a cell expanded by the algorithm (a cell whose neighbours are explored)
+	 */
+	public void nodeExpanded() {
+		this.nodesExpanded++;
+	}
+	
+	/**
+	 * Get the number of cells expanded by the algorithm since this context was created
+	 * @return (int) The number of cells expanded
+	 */
+	public int getNodesExpanded() {
+		return this.nodesExpanded;
+	}
+	
+	/**
+	 * Get an array storing the parent of each cell
+	 * @param cellCount (int) The number of cells
+	 * @return (int[]) The array, filled with -1
+	 */
+	public int[] getParents(int cellCount) {
+		if(this.parents == null || this.parents.length != cellCount) this.parents = new int[cellCount];
+		Arrays.fill(this.parents, -1);
+		return this.parents;
+	}
+	
+	/**
+	 * Get an array storing the distance from the start to each cell
+	 * @param cellCount (int) The number of cells
+	 * @return (int[]) The array, filled with {@link Integer#MAX_VALUE}
+	 */
+	public int[] getDistances(int cellCount) {
+		if(this.distances == null || this.distances.length != cellCount) this.distances = new int[cellCount];
+		Arrays.fill(this.distances, Integer.MAX_VALUE);
+		return this.distances;
+	}
+	
+	/**
+	 * Get a set of cells
+	 * @param cellCount (int) The number of cells
+	 * @return ({@link BitSet}) The set, empty
+	 */
+	public BitSet getVisited(int cellCount) {
+		if(this.visited == null) this.visited = new BitSet(cellCount);
+		this.visited.clear();
+		return this.visited;
+	}
+	
+	/**
+	 * Get a second set of cells, for the algorithms searching from both ends of the path
+	 * @param cellCount (int) The number of cells
+	 * @return ({@link BitSet}) The set, empty
+	 */
+	public BitSet getReverseVisited(int cellCount) {
+		if(this.reverseVisited == null) this.reverseVisited = new BitSet(cellCount);
+		this.reverseVisited.clear();
+		return this.reverseVisited;
+	}
+	
+	/**
+	 * Get a heap of cell indexes
+	 * @param cellCount (int) The number of cells
+	 * @return ({@link IndexedMinHeap}) The heap, empty
+	 */
+	public IndexedMinHeap getHeap(int cellCount) {
+		if(this.heap == null || this.heap.capacity() != cellCount) this.heap = new IndexedMinHeap(cellCount);
+		this.heap.clear();
+		return this.heap;
+	}
+	
+	/**
+	 * Get a queue of cell indexes
+	 * @param cellCount (int) The number of cells
+	 * @return ({@link IntQueue}) The queue, empty
+	 */
+	public IntQueue getQueue(int cellCount) {
+		if(this.queue == null) this.queue = new IntQueue(cellCount);
+		this.queue.clear();
+		return this.queue;
+	}
+	
+	/**
+	 * Get a second queue of cell indexes, for the algorithms searching from both ends of the path
+	 * @param cellCount (int) The number of cells
+	 * @return ({@link IntQueue}) The queue, empty
+	 */
+	public IntQueue getReverseQueue(int cellCount) {
+		if(this.reverseQueue == null) this.reverseQueue = new IntQueue(cellCount);
+		this.reverseQueue.clear();
+		return this.reverseQueue;
+	}
+}
@@ -1,14 +1,10 @@
 package model.generationAlgorithm;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.Random;
 
-import model.Cell;
 import model.CellValue;
 import model.GenerationAlgorithmStrategy;
+import model.GenerationContext;
 import model.Labyrinth;
 import model.util.Direction;
 import model.util.Position;
@@ -22,26 +18,25 @@ import model.util.Position;
  */
 public class AldousBroder extends GenerationAlgorithmStrategy {
 	@Override
-	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
+	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, GenerationContext context) {
 		int remaining = labyrinth.getWidth() * labyrinth.getHeight() - 1;
-		Position currentPos = start;
+		int current = labyrinth.getIndex(start);
+		Direction[] directions = context.getDirections();
 		
 		while(remaining > 0) {
-			if(this.isStopped()) return;
+			if(context.isStopped()) return;
 			
-			List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST));
-			Collections.shuffle(directions, random);
+			Direction.shuffle(directions, random);
 			
 			for(Direction dir : directions) {
-				if(this.isStopped()) return;
+				if(context.isStopped()) return;
 				
-				Position pos = labyrinth.getNeighbour(currentPos, dir, dir);
-				Cell c = labyrinth.getCell(pos);
+				int next = labyrinth.getNeighbour(current, dir);
 				
-				if(pos != null) {
-					if(stepByStep) {
-						CellValue initialValue = c.getValue();
-						c.setValue(CellValue.CURRENT);
+				if(next >= 0) {
+					if(context.isStepByStep()) {
+						CellValue initialValue = labyrinth.getValue(next);
+						labyrinth.setValue(next, CellValue.CURRENT);
 						
 						try {
 							Thread.sleep(150);
@@ -49,18 +44,17 @@ public class AldousBroder extends GenerationAlgorithmStrategy {
 							e.printStackTrace();
 						}
 						
-						c.setValue(initialValue);
+						labyrinth.setValue(next, initialValue);
 					}
 					
-					if(c.getValue() == CellValue.WALL) {
-						labyrinth.getCell(currentPos).setEdgeToDirection(dir, CellValue.EMPTY);
-						c.setOppositeEdge(dir, CellValue.EMPTY);
-						labyrinth.getCell(currentPos).setValue(CellValue.EMPTY);
-						c.setValue(CellValue.EMPTY);
+					if(labyrinth.getValue(next) == CellValue.WALL) {
+						labyrinth.setWall(current, dir, false);
+						labyrinth.setValue(current, CellValue.EMPTY);
+						labyrinth.setValue(next, CellValue.EMPTY);
 						remaining--;
 					}
 					
-					currentPos = pos;
+					current = next;
 					break;
 				}
 			}
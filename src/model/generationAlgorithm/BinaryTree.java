@@ -1,12 +1,10 @@
 package model.generationAlgorithm;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
-import model.Cell;
 import model.CellValue;
 import model.GenerationAlgorithmStrategy;
+import model.GenerationContext;
 import model.Labyrinth;
 import model.util.Direction;
 import model.util.Position;
@@ -20,38 +18,36 @@ import model.util.Position;
  */
 public class BinaryTree extends GenerationAlgorithmStrategy {
 	@Override
-	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
+	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, GenerationContext context) {
+		Direction[] directions = new Direction[2];
+		
 		for(int i = 0; i < labyrinth.getHeight(); i++) {
 			for(int j = 0; j < labyrinth.getWidth(); j++) {
-				if(this.isStopped()) return;
+				if(context.isStopped()) return;
 				
-				Direction dir;
-				List<Direction> directions = new ArrayList<>();
-				if(i > 0) directions.add(Direction.NORTH);
-				if(j > 0) directions.add(Direction.WEST);
+				int count = 0;
+				if(i > 0) directions[count++] = Direction.NORTH;
+				if(j > 0) directions[count++] = Direction.WEST;
 				
-				if(directions.size() > 0) {
-					dir = directions.get(random.nextInt(directions.size()));
+				if(count > 0) {
+					Direction dir = directions[random.nextInt(count)];
 					
-					Position pos = new Position(j, i);
-					Cell c = labyrinth.getCell(pos);
-					c.setValue(CellValue.CURRENT);
+					int current = labyrinth.getIndex(j, i);
+					labyrinth.setValue(current, CellValue.CURRENT);
 					
-					Position posOther = labyrinth.getNeighbour(pos, dir, dir);
-					Cell cOther = labyrinth.getCell(posOther);
+					int other = labyrinth.getNeighbour(current, dir);
 					
-					if(stepByStep) {
+					if(context.isStepByStep()) {
 						try {
 							Thread.sleep(150);
 						} catch (InterruptedException e) {
 							e.printStackTrace();
 						}
 					}
-
-					c.setEdgeToDirection(dir, CellValue.EMPTY);
-					cOther.setOppositeEdge(dir, CellValue.EMPTY);
-					c.setValue(CellValue.EMPTY);
-					cOther.setValue(CellValue.EMPTY);
+					
+					labyrinth.setWall(current, dir, false);
+					labyrinth.setValue(current, CellValue.EMPTY);
+					labyrinth.setValue(other, CellValue.EMPTY);
 				}
 			}
 		}
@@ -1,16 +1,13 @@
 package model.generationAlgorithm;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.Random;
 
-import model.Cell;
 import model.CellValue;
 import model.GenerationAlgorithmStrategy;
+import model.GenerationContext;
 import model.Labyrinth;
 import model.util.Direction;
+import model.util.IntList;
 import model.util.Position;
 
 /**
@@ -22,21 +19,21 @@ import model.util.Position;
  */
 public class GrowingTree extends GenerationAlgorithmStrategy {
 	@Override
-	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
-		List<Position> cells = new ArrayList<>();
-		cells.add(start);
+	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, GenerationContext context) {
+		IntList cells = context.getCells();
+		cells.add(labyrinth.getIndex(start));
+		Direction[] directions = context.getDirections();
 		int index = 0;
 		
 		while(!cells.isEmpty()) {
-			if(this.isStopped()) return;
+			if(context.isStopped()) return;
 			
 			index = random.nextInt(cells.size());
-			Position p = cells.get(index);
-			Cell c = labyrinth.getCell(p);
+			int current = cells.get(index);
 			
-			if(stepByStep) {
-				CellValue initialValue = c.getValue();
-				c.setValue(CellValue.CURRENT);
+			if(context.isStepByStep()) {
+				CellValue initialValue = labyrinth.getValue(current);
+				labyrinth.setValue(current, CellValue.CURRENT);
 				
 				try {
 					Thread.sleep(150);
@@ -44,33 +41,27 @@ public class GrowingTree extends GenerationAlgorithmStrategy {
 					e.printStackTrace();
 				}
 				
-				c.setValue(initialValue);
+				labyrinth.setValue(current, initialValue);
 			}
 			
-			List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST));
-			Collections.shuffle(directions, random);
+			Direction.shuffle(directions, random);
 			
 			for(Direction dir : directions) {
-				if(this.isStopped()) return;
+				if(context.isStopped()) return;
 				
-				Position pNext = labyrinth.getNeighbour(p, dir, dir);
+				int next = labyrinth.getNeighbour(current, dir);
 				
-				if(pNext != null) {
-					Cell cNext = labyrinth.getCell(pNext);
-					
-					if(cNext.getValue() == CellValue.WALL) {
-						c.setValue(CellValue.EMPTY);
-						c.setEdgeToDirection(dir, CellValue.EMPTY);
-						cNext.setValue(CellValue.EMPTY);
-						cNext.setOppositeEdge(dir, CellValue.EMPTY);
-						cells.add(pNext);
-						index = -1;
-						break;
-					}
+				if(next >= 0 && labyrinth.getValue(next) == CellValue.WALL) {
+					labyrinth.setValue(current, CellValue.EMPTY);
+					labyrinth.setWall(current, dir, false);
+					labyrinth.setValue(next, CellValue.EMPTY);
+					cells.add(next);
+					index = -1;
+					break;
 				}
 			}
 			
-			if(index > -1) cells.remove(index);
+			if(index > -1) cells.removeAt(index);
 		}
 	}
 }
\ No newline at end of file
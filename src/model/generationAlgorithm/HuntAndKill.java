@@ -1,14 +1,10 @@
 package model.generationAlgorithm;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.Random;
 
-import model.Cell;
 import model.CellValue;
 import model.GenerationAlgorithmStrategy;
+import model.GenerationContext;
 import model.Labyrinth;
 import model.util.Direction;
 import model.util.Position;
@@ -22,27 +18,23 @@ import model.util.Position;
  */
 public class HuntAndKill extends GenerationAlgorithmStrategy {
 	@Override
-	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
-		Position current = start;
+	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, GenerationContext context) {
+		int current = labyrinth.getIndex(start);
 		boolean[] huntFinished = new boolean[labyrinth.getHeight()];
+		Direction[] directions = context.getDirections();
 		
-		while(current != null) {
-			if(this.isStopped()) return;
+		while(current >= 0) {
+			if(context.isStopped()) return;
 			
-			current = this.walk(labyrinth, random, current, end, stepByStep);
-			if(current == null) current = this.hunt(labyrinth, random, stepByStep, huntFinished);
+			current = this.walk(labyrinth, random, current, context, directions);
+			if(current < 0) current = this.hunt(labyrinth, random, context, huntFinished, directions);
 		}
 	}
 	
-	private Position walk(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
-		if(start == null) return null;
-		
-		Position p = start;
-		Cell c = labyrinth.getCell(p);
-		
-		if(stepByStep) {
-			CellValue initialValue = c.getValue();
-			c.setValue(CellValue.CURRENT);
+	private int walk(Labyrinth labyrinth, Random random, int current, GenerationContext context, Direction[] directions) {
+		if(context.isStepByStep()) {
+			CellValue initialValue = labyrinth.getValue(current);
+			labyrinth.setValue(current, CellValue.CURRENT);
 			
 			try {
 				Thread.sleep(100);
@@ -50,43 +42,39 @@ public class HuntAndKill extends GenerationAlgorithmStrategy {
 				e.printStackTrace();
 			}
 			
-			c.setValue(initialValue);
+			labyrinth.setValue(current, initialValue);
 		}
 		
-		List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST));
-		Collections.shuffle(directions, random);
+		Direction.shuffle(directions, random);
 		
 		for(Direction dir : directions) {
-			if(this.isStopped()) return null;
+			if(context.isStopped()) return -1;
 			
-			Position pNext = labyrinth.getNeighbour(p, dir, dir);
-			Cell cNext = labyrinth.getCell(pNext);
+			int next = labyrinth.getNeighbour(current, dir);
 			
-			if(cNext != null && cNext.getValue() == CellValue.WALL) {
-				c.setValue(CellValue.EMPTY);
-				c.setEdgeToDirection(dir, CellValue.EMPTY);
-				cNext.setValue(CellValue.EMPTY);
-				cNext.setOppositeEdge(dir, CellValue.EMPTY);
+			if(next >= 0 && labyrinth.getValue(next) == CellValue.WALL) {
+				labyrinth.setValue(current, CellValue.EMPTY);
+				labyrinth.setWall(current, dir, false);
+				labyrinth.setValue(next, CellValue.EMPTY);
 				
-				return pNext;
+				return next;
 			}
 		}
 		
-		return null;
+		return -1;
 	}
 	
-	private Position hunt(Labyrinth labyrinth, Random random, boolean stepByStep, boolean[] finished) {
+	private int hunt(Labyrinth labyrinth, Random random, GenerationContext context, boolean[] finished, Direction[] neighbours) {
 		for(int i = 0; i < labyrinth.getHeight(); i++) {
 			if(!finished[i]) {
 				for(int j = 0; j < labyrinth.getWidth(); j++) {
-					if(this.isStopped()) return null;
+					if(context.isStopped()) return -1;
 					
-					Position p = new Position(j, i);
-					Cell c = labyrinth.getCell(p);
+					int current = labyrinth.getIndex(j, i);
 					
-					if(stepByStep) {
-						CellValue initialValue = c.getValue();
-						c.setValue(CellValue.CURRENT);
+					if(context.isStepByStep()) {
+						CellValue initialValue = labyrinth.getValue(current);
+						labyrinth.setValue(current, CellValue.CURRENT);
 						
 						try {
 							Thread.sleep(25);
@@ -94,44 +82,30 @@ public class HuntAndKill extends GenerationAlgorithmStrategy {
 							e.printStackTrace();
 						}
 						
-						c.setValue(initialValue);
+						labyrinth.setValue(current, initialValue);
 					}
 					
-					if(c.getValue() == CellValue.WALL) {
-						List<Direction> neighbours = new ArrayList<>();
-						
-						Cell cNorth = labyrinth.getCell(labyrinth.getNeighbour(p, Direction.NORTH, Direction.NORTH));
-						Cell cSouth = labyrinth.getCell(labyrinth.getNeighbour(p, Direction.SOUTH, Direction.SOUTH));
-						Cell cEast = labyrinth.getCell(labyrinth.getNeighbour(p, Direction.EAST, Direction.EAST));
-						Cell cWest = labyrinth.getCell(labyrinth.getNeighbour(p, Direction.WEST, Direction.WEST));
-						
-						if(cNorth != null && cNorth.getValue() != CellValue.WALL) {
-							neighbours.add(Direction.NORTH);
-						}
-						
-						if(cSouth != null && cSouth.getValue() != CellValue.WALL) {
-							neighbours.add(Direction.SOUTH);
-						}
-						
-						if(cEast != null && cEast.getValue() != CellValue.WALL) {
-							neighbours.add(Direction.EAST);
-						}
+					if(labyrinth.getValue(current) == CellValue.WALL) {
+						int count = 0;
 						
-						if(cWest != null && cWest.getValue() != CellValue.WALL) {
-							neighbours.add(Direction.WEST);
+						for(int d = 0; d < 4; d++) {
+							int neighbour = labyrinth.getNeighbour(current, Direction.get(d));
+							
+							if(neighbour >= 0 && labyrinth.getValue(neighbour) != CellValue.WALL) {
+								neighbours[count++] = Direction.get(d);
+							}
 						}
 						
-						if(neighbours.size() <= 0) continue;
+						if(count <= 0) continue;
 						
-						Direction dirChoice = neighbours.get(random.nextInt(neighbours.size()));
+						Direction dirChoice = neighbours[random.nextInt(count)];
 						
-						c.setValue(CellValue.EMPTY);
-						c.setEdgeToDirection(dirChoice, CellValue.EMPTY);
-						labyrinth.getCell(labyrinth.getNeighbour(p, dirChoice, dirChoice)).setValue(CellValue.EMPTY);
-						labyrinth.getCell(labyrinth.getNeighbour(p, dirChoice, dirChoice)).setOppositeEdge(dirChoice, CellValue.EMPTY);
+						labyrinth.setValue(current, CellValue.EMPTY);
+						labyrinth.setWall(current, dirChoice, false);
+						labyrinth.setValue(labyrinth.getNeighbour(current, dirChoice), CellValue.EMPTY);
 
 						finished[i] = false;
-						return p;
+						return current;
 					} else {
 						finished[i] = true;
 						continue;
@@ -140,6 +114,6 @@ public class HuntAndKill extends GenerationAlgorithmStrategy {
 			}
 		}
 		
-		return null;
+		return -1;
 	}
 }
\ No newline at end of file
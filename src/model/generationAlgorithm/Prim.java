@@ -1,14 +1,13 @@
 package model.generationAlgorithm;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
-import model.Cell;
 import model.CellValue;
 import model.GenerationAlgorithmStrategy;
+import model.GenerationContext;
 import model.Labyrinth;
 import model.util.Direction;
+import model.util.IntList;
 import model.util.Position;
 
 /**
@@ -20,21 +19,21 @@ import model.util.Position;
  */
 public class Prim extends GenerationAlgorithmStrategy {
 	@Override
-	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
-		List<Position> frontier = new ArrayList<>();
+	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, GenerationContext context) {
+		IntList frontier = context.getCells();
+		Direction[] neighbours = context.getDirections();
 		
-		Position position;
-		this.mark(labyrinth, start, frontier);
+		int current;
+		this.mark(labyrinth, labyrinth.getIndex(start), frontier);
 		
 		while(!frontier.isEmpty()) {
-			if(this.isStopped()) return;
+			if(context.isStopped()) return;
 			
-			position = frontier.remove(random.nextInt(frontier.size()));
-			Cell c = labyrinth.getCell(position);
+			current = frontier.removeAt(random.nextInt(frontier.size()));
 			
-			if(stepByStep) {
-				CellValue currentVal = c.getValue();
-				c.setValue(CellValue.CURRENT);
+			if(context.isStepByStep()) {
+				CellValue currentVal = labyrinth.getValue(current);
+				labyrinth.setValue(current, CellValue.CURRENT);
 				
 				try {
 					Thread.sleep(150);
@@ -42,73 +41,57 @@ public class Prim extends GenerationAlgorithmStrategy {
 					e.printStackTrace();
 				}
 				
-				c.setValue(currentVal);
+				labyrinth.setValue(current, currentVal);
 			}
 			
-			List<Position> neighbors = this.neighbours(labyrinth, position);
+			int count = this.neighbours(labyrinth, current, neighbours);
 			
-			if(!neighbors.isEmpty()) {
-				Position positionNext = neighbors.get(random.nextInt(neighbors.size()));
-				Cell cNext = labyrinth.getCell(positionNext);
-				Direction direction = labyrinth.getNeighbour(position, positionNext);
+			if(count > 0) {
+				Direction direction = neighbours[random.nextInt(count)];
 				
-				if(direction != null) {
-					c.setValue(CellValue.EMPTY);
-					c.setEdgeToDirection(direction, CellValue.EMPTY);
-					cNext.setValue(CellValue.EMPTY);
-					cNext.setOppositeEdge(direction, CellValue.EMPTY);
-				}
+				labyrinth.setValue(current, CellValue.EMPTY);
+				labyrinth.setWall(current, direction, false);
+				labyrinth.setValue(labyrinth.getNeighbour(current, direction), CellValue.EMPTY);
 			}
 			
-			this.mark(labyrinth, position, frontier);
+			this.mark(labyrinth, current, frontier);
 		}
 	}
 	
-	private void mark(Labyrinth labyrinth, Position position, List<Position> frontier) {
-		Cell c = labyrinth.getCell(position);
-		c.setValue(CellValue.EMPTY);
+	private void mark(Labyrinth labyrinth, int current, IntList frontier) {
+		labyrinth.setValue(current, CellValue.EMPTY);
 		
-		this.addFrontier(labyrinth, position, labyrinth.getNeighbour(position, Direction.NORTH, Direction.NORTH), frontier);
-		this.addFrontier(labyrinth, position, labyrinth.getNeighbour(position, Direction.EAST, Direction.EAST), frontier);
-		this.addFrontier(labyrinth, position, labyrinth.getNeighbour(position, Direction.WEST, Direction.WEST), frontier);
-		this.addFrontier(labyrinth, position, labyrinth.getNeighbour(position, Direction.SOUTH, Direction.SOUTH), frontier);
+		this.addFrontier(labyrinth, labyrinth.getNeighbour(current, Direction.NORTH), frontier);
+		this.addFrontier(labyrinth, labyrinth.getNeighbour(current, Direction.EAST), frontier);
+		this.addFrontier(labyrinth, labyrinth.getNeighbour(current, Direction.WEST), frontier);
+		this.addFrontier(labyrinth, labyrinth.getNeighbour(current, Direction.SOUTH), frontier);
 	}
 	
-	private void addFrontier(Labyrinth labyrinth, Position current, Position other, List<Position> frontier) {
-		if(current != null && other != null && !current.equals(other)) {
-			Cell c = labyrinth.getCell(other);
-			
-			if(other.getX() >= 0 && other.getY() >= 0 && other.getX() < labyrinth.getWidth() && other.getY() < labyrinth.getHeight() && c.getValue() == CellValue.WALL) {
-				c.setValue(CellValue.FRONTIER);
-				frontier.add(other);
-			}
+	private void addFrontier(Labyrinth labyrinth, int other, IntList frontier) {
+		if(other >= 0 && labyrinth.getValue(other) == CellValue.WALL) {
+			labyrinth.setValue(other, CellValue.FRONTIER);
+			frontier.add(other);
 		}
 	}
 	
-	private List<Position> neighbours(Labyrinth labyrinth, Position position) {
-		List<Position> p = new ArrayList<>();
-		
-		Position north = labyrinth.getNeighbour(position, Direction.NORTH, Direction.NORTH);
-		Position east = labyrinth.getNeighbour(position, Direction.EAST, Direction.EAST);
-		Position west = labyrinth.getNeighbour(position, Direction.WEST, Direction.WEST);
-		Position south = labyrinth.getNeighbour(position, Direction.SOUTH, Direction.SOUTH);
+	private int neighbours(Labyrinth labyrinth, int current, Direction[] neighbours) {
+		int count = 0;
 		
-		if(north != null && labyrinth.getCell(north).getValue() == CellValue.EMPTY) {
-			p.add(north);
-		}
+		count = this.addNeighbour(labyrinth, current, Direction.NORTH, neighbours, count);
+		count = this.addNeighbour(labyrinth, current, Direction.EAST, neighbours, count);
+		count = this.addNeighbour(labyrinth, current, Direction.WEST, neighbours, count);
+		count = this.addNeighbour(labyrinth, current, Direction.SOUTH, neighbours, count);
 		
-		if(east != null && labyrinth.getCell(east).getValue() == CellValue.EMPTY) {
-			p.add(east);
-		}
+		return count;
+	}
 	
-		if(west != null && labyrinth.getCell(west).getValue() == CellValue.EMPTY) {
-			p.add(west);
-		}
+	private int addNeighbour(Labyrinth labyrinth, int current, Direction direction, Direction[] neighbours, int count) {
+		int other = labyrinth.getNeighbour(current, direction);
 		
-		if(south != null && labyrinth.getCell(south).getValue() == CellValue.EMPTY) {
-			p.add(south);
+		if(other >= 0 && labyrinth.getValue(other) == CellValue.EMPTY) {
+			neighbours[count++] = direction;
 		}
 		
-		return p;
+		return count;
 	}
 }
\ No newline at end of file
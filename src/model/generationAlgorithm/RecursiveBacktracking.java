@@ -1,17 +1,13 @@
 package model.generationAlgorithm;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.Random;
-import java.util.Stack;
 
-import model.Cell;
 import model.CellValue;
 import model.GenerationAlgorithmStrategy;
+import model.GenerationContext;
 import model.Labyrinth;
 import model.util.Direction;
+import model.util.IntList;
 import model.util.Position;
 
 /**
@@ -23,29 +19,26 @@ import model.util.Position;
  */
 public class RecursiveBacktracking extends GenerationAlgorithmStrategy {
 	@Override
-	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
-		Stack<Position> s = new Stack<>();
-		s.push(start);
+	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, GenerationContext context) {
+		IntList s = context.getCells();
+		s.add(labyrinth.getIndex(start));
+		Direction[] directions = context.getDirections();
 		
 		while(!s.isEmpty()) {
-			if(this.isStopped()) return;
+			if(context.isStopped()) return;
 			
-			List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST));
-			Collections.shuffle(directions, random);
+			Direction.shuffle(directions, random);
 			
-			Position current = s.pop();
+			int current = s.removeLast();
 			
 			for(Direction d : directions) {
-				if(this.isStopped()) return;
+				if(context.isStopped()) return;
 				
-				Cell cCurrent = labyrinth.getCell(current);
+				int next = labyrinth.getNeighbour(current, d);
 				
-				Position pNew = labyrinth.getNeighbour(current, d, d);
-				Cell cNew = labyrinth.getCell(pNew);
-				
-				if(cNew != null && cNew.getValue() == CellValue.WALL) {
-					if(stepByStep) {
-						cCurrent.setValue(CellValue.CURRENT);
+				if(next >= 0 && labyrinth.getValue(next) == CellValue.WALL) {
+					if(context.isStepByStep()) {
+						labyrinth.setValue(current, CellValue.CURRENT);
 						
 						try {
 							Thread.sleep(150);
@@ -54,11 +47,10 @@ public class RecursiveBacktracking extends GenerationAlgorithmStrategy {
 						}
 					}
 					
-					cCurrent.setValue(CellValue.EMPTY);
-					cCurrent.setEdgeToDirection(d, CellValue.EMPTY);
-					cNew.setOppositeEdge(d, CellValue.EMPTY);
-					cNew.setValue(CellValue.EMPTY);
-					s.push(pNew);
+					labyrinth.setValue(current, CellValue.EMPTY);
+					labyrinth.setWall(current, d, false);
+					labyrinth.setValue(next, CellValue.EMPTY);
+					s.add(next);
 				}
 			}
 		}
@@ -2,8 +2,8 @@ package model.generationAlgorithm;
 
 import java.util.Random;
 
-import model.CellValue;
 import model.GenerationAlgorithmStrategy;
+import model.GenerationContext;
 import model.Labyrinth;
 import model.util.Direction;
 import model.util.Position;
@@ -17,16 +17,16 @@ import model.util.Position;
  */
 public class RecursiveDivision extends GenerationAlgorithmStrategy {
 	@Override
-	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
+	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, GenerationContext context) {
 		this.eraseGrid(labyrinth);
-		this.divide(labyrinth, random, start, labyrinth.getWidth(), labyrinth.getHeight(), this.choose_orientation(labyrinth.getWidth(), labyrinth.getHeight(), random), stepByStep);
+		this.divide(labyrinth, random, start, labyrinth.getWidth(), labyrinth.getHeight(), this.choose_orientation(labyrinth.getWidth(), labyrinth.getHeight(), random), context);
 	}
 	
-	private void divide(Labyrinth labyrinth, Random random, Position pos, int width, int height, Orientation orientation, boolean stepByStep) {
-		if(this.isStopped()) return;
+	private void divide(Labyrinth labyrinth, Random random, Position pos, int width, int height, Orientation orientation, GenerationContext context) {
+		if(context.isStopped()) return;
 		if(width <= 2 || height <= 2) return;
 		
-		if(stepByStep) {
+		if(context.isStepByStep()) {
 			try {
 				Thread.sleep(150);
 			} catch (InterruptedException e) {
@@ -48,11 +48,10 @@ public class RecursiveDivision extends GenerationAlgorithmStrategy {
 		Direction dir = orientation == Orientation.HORIZONTAL ? Direction.SOUTH : Direction.EAST;
 		
 		for(int i = 0; i < length; i++) {
-			if(this.isStopped()) return;
+			if(context.isStopped()) return;
 			
 			if(wx != px || wy != py) {
-				labyrinth.getCell(new Position(wx, wy)).setEdgeToDirection(dir, CellValue.WALL);
-				labyrinth.getCell(labyrinth.getNeighbour(new Position(wx, wy), dir, dir)).setOppositeEdge(dir, CellValue.WALL);
+				labyrinth.setWall(labyrinth.getIndex(wx, wy), dir, true);
 			}
 			
 			wx += dx;
@@ -64,14 +63,14 @@ public class RecursiveDivision extends GenerationAlgorithmStrategy {
 		
 		int w = orientation == Orientation.HORIZONTAL ? width : (wx - pos.getX() + 1);
 		int h = orientation == Orientation.HORIZONTAL ? (wy - pos.getY() + 1) : height;
-		this.divide(labyrinth, random, new Position(nx, ny), w, h, this.choose_orientation(w, h, random), stepByStep);
+		this.divide(labyrinth, random, new Position(nx, ny), w, h, this.choose_orientation(w, h, random), context);
 
 		nx = orientation == Orientation.HORIZONTAL ? pos.getX() : (wx + 1);
 		ny = orientation == Orientation.HORIZONTAL ? (wy + 1) : pos.getY();
 		
 		w = orientation == Orientation.HORIZONTAL ? width : (pos.getX() + width - wx - 1);
 		h = orientation == Orientation.HORIZONTAL ? (pos.getY() + height - wy - 1) : height;
-		this.divide(labyrinth, random, new Position(nx, ny), w, h, this.choose_orientation(w, h, random), stepByStep);
+		this.divide(labyrinth, random, new Position(nx, ny), w, h, this.choose_orientation(w, h, random), context);
 	}
 	
 	private Orientation choose_orientation(int width, int height, Random random) {
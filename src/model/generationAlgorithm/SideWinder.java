@@ -2,9 +2,9 @@ package model.generationAlgorithm;
 
 import java.util.Random;
 
-import model.Cell;
 import model.CellValue;
 import model.GenerationAlgorithmStrategy;
+import model.GenerationContext;
 import model.Labyrinth;
 import model.util.Direction;
 import model.util.Position;
@@ -18,20 +18,19 @@ import model.util.Position;
  */
 public class SideWinder extends GenerationAlgorithmStrategy {
 	@Override
-	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
+	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, GenerationContext context) {
 		for(int i = 0; i < labyrinth.getHeight(); i++) {
 			int run_start = 0;
 			
 			for(int j = 0; j < labyrinth.getWidth(); j++) {
-				if(this.isStopped()) return;
+				if(context.isStopped()) return;
 				
 				if(i > 0 && (j + 1 == labyrinth.getWidth() || random.nextInt(2) == 0)) {
 					int x = run_start + random.nextInt(j - run_start + 1);
-					Position p = new Position(x, i);
-					Cell c = labyrinth.getCell(p);
+					int current = labyrinth.getIndex(x, i);
 					
-					if(stepByStep) {
-						c.setValue(CellValue.CURRENT);
+					if(context.isStepByStep()) {
+						labyrinth.setValue(current, CellValue.CURRENT);
 						
 						try {
 							Thread.sleep(150);
@@ -40,20 +39,15 @@ public class SideWinder extends GenerationAlgorithmStrategy {
 						}
 					}
 					
-					Position pNorth = labyrinth.getNeighbour(p, Direction.NORTH, Direction.NORTH);
-					Cell cNorth = labyrinth.getCell(pNorth);
-					
-					c.setValue(CellValue.EMPTY);
-					c.setNorth(CellValue.EMPTY);
-					cNorth.setValue(CellValue.EMPTY);
-					cNorth.setSouth(CellValue.EMPTY);
+					labyrinth.setValue(current, CellValue.EMPTY);
+					labyrinth.setWall(current, Direction.NORTH, false);
+					labyrinth.setValue(labyrinth.getNeighbour(current, Direction.NORTH), CellValue.EMPTY);
 					run_start = j + 1;
 				} else {
-					Position p = new Position(j, i);
-					Cell c = labyrinth.getCell(p);
+					int current = labyrinth.getIndex(j, i);
 					
-					if(stepByStep) {
-						c.setValue(CellValue.CURRENT);
+					if(context.isStepByStep()) {
+						labyrinth.setValue(current, CellValue.CURRENT);
 						
 						try {
 							Thread.sleep(150);
@@ -62,15 +56,13 @@ public class SideWinder extends GenerationAlgorithmStrategy {
 						}
 					}
 					
-					Position pEast = labyrinth.getNeighbour(p, Direction.EAST, Direction.EAST);
-					Cell cEast = labyrinth.getCell(pEast);
+					int east = labyrinth.getNeighbour(current, Direction.EAST);
 					
-					c.setValue(CellValue.EMPTY);
-					c.setEast(CellValue.EMPTY);
+					labyrinth.setValue(current, CellValue.EMPTY);
+					labyrinth.setWall(current, Direction.EAST, false);
 					
-					if(cEast != null) {
-						cEast.setValue(CellValue.EMPTY);
-						cEast.setWest(CellValue.EMPTY);
+					if(east >= 0) {
+						labyrinth.setValue(east, CellValue.EMPTY);
 					}
 				}
 			}
@@ -1,19 +1,14 @@
 package model.generationAlgorithm;
 
-import java.util.AbstractMap;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
-import model.Cell;
 import model.CellValue;
 import model.GenerationAlgorithmStrategy;
+import model.GenerationContext;
 import model.Labyrinth;
 import model.util.Direction;
+import model.util.IntList;
 import model.util.Position;
 
 /**
@@ -25,27 +20,25 @@ import model.util.Position;
  */
 public class Wilson extends GenerationAlgorithmStrategy {
 	@Override
-	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, boolean stepByStep) {
-		labyrinth.getCell(start).setValue(CellValue.EMPTY);
+	public void generate(Labyrinth labyrinth, Random random, Position start, Position end, GenerationContext context) {
+		labyrinth.setValue(labyrinth.getIndex(start), CellValue.EMPTY);
 		int remaining = labyrinth.getWidth() * labyrinth.getHeight() - 1;
 		
-		List<Map.Entry<Position, Direction>> walk;
+		RandomWalk walk = new RandomWalk(labyrinth.getCellCount());
 		
 		while(remaining > 0) {
-			if(this.isStopped()) return;
+			if(context.isStopped()) return;
 			
-			walk = this.walk(labyrinth, random, stepByStep);
-			
-			if(walk != null) {
-				for(Map.Entry<Position, Direction> e : walk) {
-					if(this.isStopped()) return;
+			if(this.walk(labyrinth, random, context, walk)) {
+				for(int i = 0; i < walk.path.size(); i++) {
+					if(context.isStopped()) return;
 					
-					Position current = e.getKey();
-					Cell cCurrent = labyrinth.getCell(current);
+					int current = walk.path.get(i) >> 2;
+					Direction dir = Direction.get(walk.path.get(i) & 3);
 					
-					if(stepByStep) {
-						CellValue initialValue = cCurrent.getValue();
-						cCurrent.setValue(CellValue.CURRENT);
+					if(context.isStepByStep()) {
+						CellValue initialValue = labyrinth.getValue(current);
+						labyrinth.setValue(current, CellValue.CURRENT);
 						
 						try {
 							Thread.sleep(150);
@@ -53,21 +46,12 @@ public class Wilson extends GenerationAlgorithmStrategy {
 							e2.printStackTrace();
 						}
 						
-						cCurrent.setValue(initialValue);
+						labyrinth.setValue(current, initialValue);
 					}
 					
-					Position next = labyrinth.getNeighbour(e.getKey(), e.getValue(), e.getValue());
-					Cell cNext = labyrinth.getCell(next);
-					
-					if(cCurrent != null && e.getValue() != null) {
-						cCurrent.setValue(CellValue.EMPTY);
-						cCurrent.setEdgeToDirection(e.getValue(), CellValue.EMPTY);
-					}
-					
-					if(cNext != null && e.getValue() != null) {
-						cNext.setValue(CellValue.EMPTY);
-						cNext.setOppositeEdge(e.getValue(), CellValue.EMPTY);
-					}
+					labyrinth.setValue(current, CellValue.EMPTY);
+					labyrinth.setWall(current, dir, false);
+					labyrinth.setValue(labyrinth.getNeighbour(current, dir), CellValue.EMPTY);
 					
 					remaining--;
 				}
@@ -75,39 +59,45 @@ public class Wilson extends GenerationAlgorithmStrategy {
 		}
 	}
 	
-	public List<Map.Entry<Position, Direction>> walk(Labyrinth labyrinth,  Random random, boolean stepByStep) {
+	/**
+	 * Do a loop-erased random walk from a random cell not yet in the labyrinth, until a cell of the labyrinth is reached<br>
+	 * The path found is stored in {@link RandomWalk#path}
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @param random ({@link Random}) The pseudo-random number generator
+	 * @param context ({@link GenerationContext}) The context of the generation
+	 * @param walk ({@link RandomWalk}) The buffers of the walk
+	 * @return (boolean) true if a path was found, false if the generation was stopped
+	 */
+	private boolean walk(Labyrinth labyrinth, Random random, GenerationContext context, RandomWalk walk) {
+		walk.path.clear();
+		
 		while(true) {
-			if(this.isStopped()) return null;
-			
-			Position pCurrent = Position.random(labyrinth.getWidth(), labyrinth.getHeight(), random);
-			Cell cCurrent = labyrinth.getCell(pCurrent);
+			if(context.isStopped()) return false;
 			
-			if(cCurrent.getValue() != CellValue.WALL) continue;
+			int current = labyrinth.getIndex(random.nextInt(labyrinth.getWidth()), random.nextInt(labyrinth.getHeight()));
 			
-			Map<Position, Direction> visits = new HashMap<>();
+			if(labyrinth.getValue(current) != CellValue.WALL) continue;
 			
-			Position start = pCurrent;
-			labyrinth.getCell(start).setValue(CellValue.FRONTIER);
+			int start = current;
+			labyrinth.setValue(start, CellValue.FRONTIER);
 			boolean walking = true;
 			
 			while(walking) {
-				if(this.isStopped()) return null;
+				if(context.isStopped()) return false;
 				
 				walking = false;
 				
-				List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST));
-				Collections.shuffle(directions, random);
+				Direction.shuffle(walk.directions, random);
 				
-				for(Direction dir : directions) {
-					if(this.isStopped()) return null;
+				for(Direction dir : walk.directions) {
+					if(context.isStopped()) return false;
 					
-					Position pNext = labyrinth.getNeighbour(pCurrent, dir, dir);
-					Cell cNext = labyrinth.getCell(pNext);
+					int next = labyrinth.getNeighbour(current, dir);
 					
-					if(pNext != null) {
-						if(stepByStep) {
-							CellValue initialValue = cNext.getValue();
-							cNext.setValue(CellValue.CURRENT);
+					if(next >= 0) {
+						if(context.isStepByStep()) {
+							CellValue initialValue = labyrinth.getValue(next);
+							labyrinth.setValue(next, CellValue.CURRENT);
 							
 							try {
 								Thread.sleep(100);
@@ -115,15 +105,15 @@ public class Wilson extends GenerationAlgorithmStrategy {
 								e.printStackTrace();
 							}
 							
-							cNext.setValue(initialValue);
+							labyrinth.setValue(next, initialValue);
 						}
 						
- 						visits.put(pCurrent, dir);
+						walk.visit(current, dir);
 						
-						if(labyrinth.getCell(pNext).getValue() == CellValue.EMPTY) {
+						if(labyrinth.getValue(next) == CellValue.EMPTY) {
 							break;
 						} else {
-							pCurrent = pNext;
+							current = next;
 							walking = true;
 							break;
 						}
@@ -131,21 +121,53 @@ public class Wilson extends GenerationAlgorithmStrategy {
 				}
 			}
 			
-			labyrinth.getCell(start).setValue(CellValue.WALL);
+			labyrinth.setValue(start, CellValue.WALL);
 			
-			List<Map.Entry<Position, Direction>> path = new ArrayList<>();
-			Position p = start;
+			int p = start;
 			
 			while(true) {
-				if(this.isStopped()) return null;
+				if(context.isStopped()) return false;
 				
-				Direction dir = visits.get(p);
-				if(p != null && labyrinth.getCell(p).getValue() == CellValue.EMPTY || dir == null) break;
-				path.add(new AbstractMap.SimpleEntry<Position, Direction>(p, dir));
-				p = labyrinth.getNeighbour(p, dir, dir);
+				int dir = walk.visits[p];
+				if(labyrinth.getValue(p) == CellValue.EMPTY || dir < 0) break;
+				walk.path.add(p << 2 | dir);
+				p = labyrinth.getNeighbour(p, Direction.get(dir));
 			}
-
-			return path;
+			
+			walk.reset();
+			
+			return true;
+		}
+	}
+	
+	/**
+	 * The buffers used by the random walks, allocated once per generation
+	 */
+	private static class RandomWalk {
+		/* The last direction taken from each cell during the current walk (-1 if not visited) */
+		private final byte[] visits;
+		/* The cells visited during the current walk */
+		private final IntList visited = new IntList();
+		/* The path found : (index of the cell << 2) | ordinal of the direction */
+		private final IntList path = new IntList();
+		private final Direction[] directions = new Direction[4];
+		
+		RandomWalk(int cellCount) {
+			this.visits = new byte[cellCount];
+			Arrays.fill(this.visits, (byte) -1);
+		}
+		
+		void visit(int index, Direction direction) {
+			if(this.visits[index] < 0) this.visited.add(index);
+			this.visits[index] = (byte) direction.ordinal();
+		}
+		
+		void reset() {
+			for(int i = 0; i < this.visited.size(); i++) {
+				this.visits[this.visited.get(i)] = -1;
+			}
+			
+			this.visited.clear();
 		}
 	}
 }
\ No newline at end of file
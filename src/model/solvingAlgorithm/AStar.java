@@ -1,21 +1,20 @@
 package model.solvingAlgorithm;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.PriorityQueue;
+import java.util.BitSet;
 import java.util.Queue;
 
-import model.Cell;
 import model.CellValue;
 import model.Labyrinth;
 import model.SolvingAlgorithmStrategy;
+import model.SolvingContext;
 import model.util.Direction;
+import model.util.IndexedMinHeap;
 import model.util.Position;
 
 /**
- * The A* Shortest Path solving algorithm
+ * The A* Shortest Path solving algorithm<br>
+ * The cells are identified by their index : the open list is an indexed binary heap supporting decrease-key,
+ * the distances from the start are stored in an int array and the closed list is a {@link BitSet}
  * @author Eliastik
  * @version 1.1
  * @since 16/12/2019
@@ -38,218 +37,78 @@ public class AStar extends SolvingAlgorithmStrategy {
 	}
 	
 	@Override
-	public Queue<Position> getPath(Labyrinth labyrinth) {
-		if(!labyrinth.isAutoPlayer()) {
-			this.searchingPath = false;
-			return null;
-		}
+	public Queue<Position> getPath(Labyrinth labyrinth, SolvingContext context) {
+		if(!labyrinth.isAutoPlayer()) return null;
 		
-		if(this.searchingPath) return null;
 		if(labyrinth.getPlayer().getPosition().equals(labyrinth.getEndPosition())) return null;
 		if(!labyrinth.isGenerationFinished()) return null;
 		
-		this.searchingPath = true;
-		Queue<Node> open = new PriorityQueue<>();
-		open.add(new Node(null, labyrinth.getPlayer().getPosition(), labyrinth.getEndPosition()));
-		List<Node> closed = new ArrayList<>();
+		int start = labyrinth.getIndex(labyrinth.getPlayer().getPosition());
+		int end = labyrinth.getIndex(labyrinth.getEndPosition());
+		int endX = labyrinth.getX(end);
+		int endY = labyrinth.getY(end);
+		
+		IndexedMinHeap open = context.getHeap(labyrinth.getCellCount());
+		BitSet closed = context.getVisited(labyrinth.getCellCount());
+		int[] distances = context.getDistances(labyrinth.getCellCount());
+		int[] parents = context.getParents(labyrinth.getCellCount());
 		
-		Node current = null;
+		distances[start] = 0;
+		open.add(start, heuristic.distance(labyrinth.getX(start), labyrinth.getY(start), endX, endY));
 		
 		while(!open.isEmpty()) {
-			// Stop algorithm if game exited
-			if(!labyrinth.isAutoPlayer()) {
-				this.searchingPath = false;
-				if(this.isStepByStep()) this.cleanStepByStep(labyrinth);
+			// Stop algorithm if game exited or if the solving is stopped
+			if(!labyrinth.isAutoPlayer() || context.isStopped()) {
+				if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
 				return null;
 			}
 			
-			current = open.poll();
-			closed.add(current);
+			int current = open.poll();
+			closed.set(current);
 			
-			if(current.getPosition().equals(labyrinth.getEndPosition())) {
-				this.searchingPath = false;
-				if(this.isStepByStep()) this.cleanStepByStep(labyrinth);
-				return this.reconstructPath(closed);
+			if(current == end) {
+				if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
+				return this.reconstructPath(labyrinth, parents, end);
 			}
 			
-			if(this.isStepByStep()) {
+			if(context.isStepByStep()) {
 				try {
-					if(current != null && !current.getPosition().equals(labyrinth.getEndPosition())) labyrinth.getCell(current.getPosition()).setValue(CellValue.CURRENT);
+					labyrinth.setValue(current, CellValue.CURRENT);
 					Thread.sleep(50);
 				} catch (InterruptedException e) {
 					e.printStackTrace();
 				}
 			}
 			
-			List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST));
+			context.nodeExpanded();
 			
-			for(int i = 0; i < directions.size(); i++) {
-				// Stop algorithm if game exited
-				if(!labyrinth.isAutoPlayer()) {
-					this.searchingPath = false;
-					if(this.isStepByStep()) this.cleanStepByStep(labyrinth);
-					return null;
-				}
+			for(int d = 0; d < 4; d++) {
+				Direction direction = Direction.get(d);
+				if(!labyrinth.canMoveTo(current, direction)) continue;
 				
-				Position successorPosition = labyrinth.getNeighbour(current.getPosition(), directions.get(i), directions.get(i));
-				Node successor = new Node(current, successorPosition, labyrinth.getEndPosition());
+				int successor = labyrinth.getNeighbour(current, direction);
+				if(closed.get(successor)) continue;
 				
-				if(successorPosition != null) {
-					Cell currentCell = labyrinth.getCell(current.getPosition());
-					Cell successorCell = labyrinth.getCell(successorPosition);
-					
-					if(labyrinth.canMoveTo(currentCell, successorCell, directions.get(i)) && closed.indexOf(successor) <= -1) {
-						if(this.isStepByStep()) {
-							try {
-								if(successorPosition != null && !successorPosition.equals(labyrinth.getEndPosition())) labyrinth.getCell(successorPosition).setValue(CellValue.FRONTIER);
-								Thread.sleep(50);
-							} catch (InterruptedException e) {
-								e.printStackTrace();
-							}
-						}
-						
-						Node samePositionInOpenList = this.samePosition(open, successor);
-						
-						if(current.getCost() > successor.getCost() || samePositionInOpenList == null) {
-							if(samePositionInOpenList == null) {
-								open.add(successor);
-							}
+				int distance = distances[current] + 1;
+				
+				if(distance < distances[successor]) {
+					if(context.isStepByStep()) {
+						try {
+							if(successor != end) labyrinth.setValue(successor, CellValue.FRONTIER);
+							Thread.sleep(50);
+						} catch (InterruptedException e) {
+							e.printStackTrace();
 						}
 					}
+					
+					distances[successor] = distance;
+					parents[successor] = current;
+					open.add(successor, distance + heuristic.distance(labyrinth.getX(successor), labyrinth.getY(successor), endX, endY));
 				}
 			}
 		}
-
-		this.searchingPath = false;
-		if(this.isStepByStep()) this.cleanStepByStep(labyrinth);
-		return null;
-	}
-	
-	/**
-	 * Reconstruct the path found with the A* algorithm<br />
-	 * We begin with the last node found (usually the end position of the labyrinth), then we iterate through the parent of each node<br />
-	 * Finally we reverse the constructed list into a Queue
-	 * @param nodes ({@link List}&lt;{@link Node}&gt;) The list of the nodes found with the A* algorithm
-	 * @return ({@link Queue}&lt;{@link Position}&gt;) The final path
-	 */
-	private Queue<Position> reconstructPath(List<Node> nodes) {
-		List<Position> tmp = new ArrayList<>();
-		Node current = nodes.get(nodes.size() - 1);
-		
-		while(current != null) {
-			tmp.add(current.getPosition());
-			current = current.parent;
-		}
-
-		Queue<Position> result = new LinkedList<>();
-		
-		for(int i = tmp.size() - 1; i >= 0; i--) {
-			result.add(tmp.get(i));
-		}
-		
-		return result;
-	}
-	
-	/**
-	 * Return the first node on the queue with the same position as the node passed in parameter
-	 * @param queue ({@link Queue}&lt;{@link Node}&gt;) The queue
-	 * @param node ({@link Node}) The node
-	 * @return ({@link Node})
-	 */
-	private Node samePosition(Queue<Node> queue, Node node) {
-		for(Node other : queue) {
-			if(other.equals(node)) {
-				return other;
-			}
-		}
 		
+		if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
 		return null;
 	}
-	
-	/**
-	 * Data structure used for the A* algorithm
-	 * @author Eliastik
-	 * @since 16/12/2019
-	 *
-	 */
-	private class Node implements Comparable<Node> {
-		private Position position;
-		private Node parent;
-		private Position endPosition;
-		
-		Node(Node parentPosition, Position position, Position endPosition) {
-			this.parent = parentPosition;
-			this.position = position;
-			this.endPosition = endPosition;
-		}
-		
-		/**
-		 * Process the distance between this node and the end node using the heuristic distance
-		 * @return (int) The distance
-		 */
-		public int getHeuristicDistance() {
-			return heuristic.distance(this.getPosition(), this.endPosition);
-		}
-		
-		/**
-		 * Process the distance between this node and the start node using the distance to parent
-		 * @return (int) The distance
-		 */
-		public int getDistanceFromStart() {
-			if(this.parent == null) return 0;
-			return this.parent.getDistanceFromStart() + Math.abs(this.getPosition().getX() - this.parent.getPosition().getX()) + Math.abs(this.getPosition().getY() - this.parent.getPosition().getY());
-		}
-
-		/**
-		 * Calculate and return the cost of this node
-		 * @return (int) The cost
-		 */
-		public int getCost() {
-			return this.getDistanceFromStart() + this.getHeuristicDistance();
-		}
-		
-		/**
-		 * Get the position of this node
-		 * @return ({@link Position}) The position
-		 */
-		public Position getPosition() {
-			return this.position;
-		}
-
-		@Override
-		public int compareTo(Node other) {
-			int c = this.getCost() - other.getCost();
-			return (c > 0) ? 1 : (c < 0) ? -1 : 0;
-		}
-
-		@Override
-		public int hashCode() {
-			final int prime = 31;
-			int result = 1;
-			result = prime * result + ((position == null) ? 0 : position.hashCode());
-			return result;
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj)
-				return true;
-			if (obj == null)
-				return false;
-			if (getClass() != obj.getClass())
-				return false;
-			Node other = (Node) obj;
-			if (position == null) {
-				if (other.position != null)
-					return false;
-			} else if (!position.equals(other.position))
-				return false;
-			return true;
-		}
-		
-		@Override
-		public String toString() {
-			return "[Node] position = " + this.getPosition() + " ; startDistance = " + this.getDistanceFromStart() + " ; heuristicDistance = " + this.getHeuristicDistance() + " ; cost = " + this.getCost() + " ; parent = " + this.parent;
-		}
-	}
 }
\ No newline at end of file
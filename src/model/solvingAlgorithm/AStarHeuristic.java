@@ -11,4 +11,17 @@ import model.util.Position;
  */
 public interface AStarHeuristic {
 	public int distance(Position position, Position other);
+	
+	/**
+	 * Same as {@link #distance(Position, Position)} with coordinates, used by the A* algorithm to avoid allocating positions<br>
+	 * Should be overridden by the heuristics
+	 * @param x (int) The abscissa of the position
+	 * @param y (int) The ordinate of the position
+	 * @param otherX (int) The abscissa of the other position
+	 * @param otherY (int) The ordinate of the other position
+	 * @return (int) The distance
+	 */
+	public default int distance(int x, int y, int otherX, int otherY) {
+		return this.distance(new Position(x, y), new Position(otherX, otherY));
+	}
 }
\ No newline at end of file
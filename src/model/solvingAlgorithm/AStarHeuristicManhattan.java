@@ -14,4 +14,9 @@ public class AStarHeuristicManhattan implements AStarHeuristic {
 	public int distance(Position position, Position other) {
 		return Math.abs(position.getX() - other.getX()) + Math.abs(position.getY() - other.getY());
 	}
+	
+	@Override
+	public int distance(int x, int y, int otherX, int otherY) {
+		return Math.abs(x - otherX) + Math.abs(y - otherY);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package model.solvingAlgorithm;
+
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.Queue;
+
+import model.CellValue;
+import model.Labyrinth;
+import model.SolvingAlgorithmStrategy;
+import model.SolvingContext;
+import model.util.Direction;
+import model.util.IntQueue;
+import model.util.Position;
+
+/**
+ * The Bidirectional Breadth First Search solving algorithm<br>
+ * Two breadth first searches are run at the same time, one from the player and one from the exit, until they meet :
+ * in a labyrinth with long paths, each search explores about half of the cells explored by a single {@link BreadthFirstSearch}<br>
+ * The searches expand a whole level at a time, the one with the smallest frontier first, so the first meeting gives a shortest path<br>
+ * A cell is visited by only one search, so both searches share the array of the parents : the parent of a cell visited from the exit is the next cell to the exit
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ * @see <a href="https://en.wikipedia.org/wiki/Bidirectional_search">https://en.wikipedia.org/wiki/Bidirectional_search</a>
+ */
+public class BidirectionalSearch extends SolvingAlgorithmStrategy {
+	public BidirectionalSearch(boolean stepByStepSolve) {
+		super(stepByStepSolve);
+	}
+	
+	public BidirectionalSearch() {
+		super(false);
+	}
+	
+	@Override
+	public Queue<Position> getPath(Labyrinth labyrinth, SolvingContext context) {
+		if(!labyrinth.isAutoPlayer()) {
+			if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
+			return null;
+		}
+		
+		if(labyrinth.getPlayer().getPosition().equals(labyrinth.getEndPosition())) return null;
+		if(!labyrinth.isGenerationFinished()) return null;
+		
+		int start = labyrinth.getIndex(labyrinth.getPlayer().getPosition());
+		int end = labyrinth.getIndex(labyrinth.getEndPosition());
+		if(!labyrinth.canEnter(end)) return null; // The player can't enter the exit
+		
+		IntQueue queue = context.getQueue(labyrinth.getCellCount());
+		IntQueue reverseQueue = context.getReverseQueue(labyrinth.getCellCount());
+		BitSet visited = context.getVisited(labyrinth.getCellCount());
+		BitSet reverseVisited = context.getReverseVisited(labyrinth.getCellCount());
+		int[] parents = context.getParents(labyrinth.getCellCount());
+		
+		visited.set(start);
+		queue.add(start);
+		reverseVisited.set(end);
+		reverseQueue.add(end);
+		
+		while(!queue.isEmpty() && !reverseQueue.isEmpty()) {
+			boolean forward = queue.size() <= reverseQueue.size();
+			IntQueue current = forward ? queue : reverseQueue;
+			
+			for(int i = current.size(); i > 0; i--) {
+				// Stop algorithm if game exited or if the solving is stopped
+				if(!labyrinth.isAutoPlayer() || context.isStopped()) {
+					if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
+					return null;
+				}
+				
+				int cell = current.poll();
+				if(context.isStepByStep() && cell != end) this.show(labyrinth, cell, CellValue.CURRENT);
+				context.nodeExpanded();
+				
+				for(int d = 0; d < 4; d++) {
+					Direction direction = Direction.get(d);
+					int neighbour;
+					
+					if(forward) {
+						if(!labyrinth.canMoveTo(cell, direction)) continue;
+						
+						neighbour = labyrinth.getNeighbour(cell, direction);
+						if(visited.get(neighbour)) continue;
+						
+						if(reverseVisited.get(neighbour)) {
+							if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
+							return this.reconstructPath(labyrinth, parents, cell, neighbour);
+						}
+						
+						visited.set(neighbour);
+					} else {
+						// The player must be able to move from the neighbour to the cell
+						neighbour = labyrinth.getMoveOrigin(cell, direction, start);
+						if(neighbour < 0 || reverseVisited.get(neighbour)) continue;
+						
+						if(visited.get(neighbour)) {
+							if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
+							return this.reconstructPath(labyrinth, parents, neighbour, cell);
+						}
+						
+						reverseVisited.set(neighbour);
+					}
+					
+					if(context.isStepByStep() && neighbour != end) this.show(labyrinth, neighbour, CellValue.FRONTIER);
+					
+					parents[neighbour] = cell;
+					current.add(neighbour);
+				}
+			}
+		}
+		
+		if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
+		return null;
+	}
+	
+	/**
+	 * Reconstruct the path where the two searches met
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @param parents (int[]) The parent of each cell : the previous cell from the player for the cells visited from the player, the next cell to the exit for the cells visited from the exit
+	 * @param last (int) The last cell visited from the player
+	 * @param first (int) The first cell visited from the exit, next to the last cell
+	 * @return ({@link Queue}&lt;{@link Position}&gt;) The path, from the start position to the end position
+	 */
+	private Queue<Position> reconstructPath(Labyrinth labyrinth, int[] parents, int last, int first) {
+		LinkedList<Position> path = new LinkedList<>();
+		
+		for(int current = last; current >= 0; current = parents[current]) {
+			path.addFirst(labyrinth.getPosition(current));
+		}
+		
+		for(int current = first; current >= 0; current = parents[current]) {
+			path.addLast(labyrinth.getPosition(current));
+		}
+		
+		return path;
+	}
+	
+	/**
+	 * Show a cell being explored, in step-by-step mode
+	 * @param labyrinth ({@link Labyrinth}) The labyrinth
+	 * @param index (int) The index of the cell
+	 * @param value ({@link CellValue}) {@link CellValue#CURRENT} or {@link CellValue#FRONTIER}
+	 */
+	private void show(Labyrinth labyrinth, int index, CellValue value) {
+		try {
+			labyrinth.setValue(index, value);
+			Thread.sleep(50);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+	}
+}
\ No newline at end of file
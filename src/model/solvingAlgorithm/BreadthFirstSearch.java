@@ -1,20 +1,20 @@
 package model.solvingAlgorithm;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.BitSet;
 import java.util.Queue;
 
-import model.Cell;
 import model.CellValue;
 import model.Labyrinth;
 import model.SolvingAlgorithmStrategy;
+import model.SolvingContext;
 import model.util.Direction;
+import model.util.IntQueue;
 import model.util.Position;
 
 /**
- * The Breadth First Search solving algorithm
+ * The Breadth First Search solving algorithm<br>
+ * The cells are identified by their index : the queue is a ring buffer of indexes, the visited cells are stored in a {@link BitSet}
+ * and the parent of each cell in an int array, so the path is rebuilt only once at the end
  * @author Eliastik
  * @version 1.1
  * @since 16/12/2019
@@ -30,87 +30,73 @@ public class BreadthFirstSearch extends SolvingAlgorithmStrategy {
 	}
 
 	@Override
-	public Queue<Position> getPath(Labyrinth labyrinth) {
+	public Queue<Position> getPath(Labyrinth labyrinth, SolvingContext context) {
 		if(!labyrinth.isAutoPlayer()) {
-			this.searchingPath = false;
-			if(this.isStepByStep()) this.cleanStepByStep(labyrinth);
+			if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
 			return null;
 		}
 		
-		if(this.searchingPath) return null;
 		if(labyrinth.getPlayer().getPosition().equals(labyrinth.getEndPosition())) return null;
 		if(!labyrinth.isGenerationFinished()) return null;
 		
-		this.searchingPath = true;
-		Queue<List<Position>> queue = new LinkedList<>();
-		List<Position> explore = new ArrayList<>();
-		List<Position> pathToEnd = new ArrayList<>();
-		Position current = null;
+		int start = labyrinth.getIndex(labyrinth.getPlayer().getPosition());
+		int end = labyrinth.getIndex(labyrinth.getEndPosition());
 		
-		pathToEnd.add(labyrinth.getPlayer().getPosition());
-		queue.add(pathToEnd);
+		IntQueue queue = context.getQueue(labyrinth.getCellCount());
+		BitSet visited = context.getVisited(labyrinth.getCellCount());
+		int[] parents = context.getParents(labyrinth.getCellCount());
+		
+		visited.set(start);
+		queue.add(start);
 		
 		while(!queue.isEmpty()) {
-			// Stop algorithm if game exited
-			if(!labyrinth.isAutoPlayer()) {
-				this.searchingPath = false;
-				if(this.isStepByStep()) this.cleanStepByStep(labyrinth);
+			// Stop algorithm if game exited or if the solving is stopped
+			if(!labyrinth.isAutoPlayer() || context.isStopped()) {
+				if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
 				return null;
 			}
 			
-			pathToEnd = queue.poll();
-			current = pathToEnd.get(pathToEnd.size() - 1);
+			int current = queue.poll();
 			
-			if(this.isStepByStep() && !current.equals(labyrinth.getEndPosition())) {
+			if(context.isStepByStep() && current != end) {
 				try {
-					labyrinth.getCell(current).setValue(CellValue.CURRENT);
+					labyrinth.setValue(current, CellValue.CURRENT);
 					Thread.sleep(50);
 				} catch (InterruptedException e) {
 					e.printStackTrace();
 				}
 			}
 			
-			if(current.equals(labyrinth.getEndPosition())) {
-				this.searchingPath = false;
-				if(this.isStepByStep()) this.cleanStepByStep(labyrinth);
-				return new LinkedList<>(pathToEnd);
-			} else {
-				ArrayList<Position> neighbours = new ArrayList<>();
-				List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST));
+			if(current == end) {
+				if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
+				return this.reconstructPath(labyrinth, parents, end);
+			}
+			
+			context.nodeExpanded();
+			
+			for(int d = 0; d < 4; d++) {
+				Direction direction = Direction.get(d);
+				if(!labyrinth.canMoveTo(current, direction)) continue;
 				
-				for(int i = 0; i < directions.size(); i++) {
-					Position posNeighbour = labyrinth.getNeighbour(current, directions.get(i), directions.get(i));
-					Cell neighbour = labyrinth.getCell(posNeighbour);
-					
-					if(posNeighbour != null && !explore.contains(posNeighbour) && !posNeighbour.equals(current) && labyrinth.canMoveTo(labyrinth.getCell(current), neighbour, directions.get(i))) {
-						if(this.isStepByStep()) {
-							try {
-								if(neighbour != null && !posNeighbour.equals(labyrinth.getEndPosition())) neighbour.setValue(CellValue.FRONTIER);
-								Thread.sleep(50);
-							} catch (InterruptedException e) {
-								e.printStackTrace();
-							}
-						}
-						
-						List<Position> path = new ArrayList<>(pathToEnd);
-						path.add(posNeighbour);
-						queue.add(path);
-						
-						neighbours.add(posNeighbour);
-						explore.add(posNeighbour);
+				int neighbour = labyrinth.getNeighbour(current, direction);
+				if(visited.get(neighbour)) continue;
+				
+				if(context.isStepByStep()) {
+					try {
+						if(neighbour != end) labyrinth.setValue(neighbour, CellValue.FRONTIER);
+						Thread.sleep(50);
+					} catch (InterruptedException e) {
+						e.printStackTrace();
 					}
 				}
 				
-				if(neighbours.isEmpty() && queue.isEmpty()) {
-					this.searchingPath = false;
-					if(this.isStepByStep()) this.cleanStepByStep(labyrinth);
-					return null;
-				}
+				visited.set(neighbour);
+				parents[neighbour] = current;
+				queue.add(neighbour);
 			}
-	    }
-	
-		this.searchingPath = false;
-		if(this.isStepByStep()) this.cleanStepByStep(labyrinth);
+		}
+		
+		if(context.isStepByStep()) this.cleanStepByStep(labyrinth);
 		return null;
 	}
 }
\ No newline at end of file
@@ -17,6 +17,11 @@ public class Dijkstra extends AStar {
 			public int distance(Position position, Position other) {
 				return 0;
 			}
+			
+			@Override
+			public int distance(int x, int y, int otherX, int otherY) {
+				return 0;
+			}
 		}, stepByStepSolve);
 	}
 
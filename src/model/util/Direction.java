@@ -1,5 +1,7 @@
 package model.util;
 
+import java.util.Random;
+
 /**
  * Represents a direction
  * @author Eliastik
@@ -10,19 +12,84 @@ public enum Direction {
 	/**
 	 * The north direction
 	 */
-	NORTH,
+	NORTH(0, -1),
 	/**
 	 * The south direction
 	 */
-	SOUTH,
+	SOUTH(0, 1),
 	/**
 	 * The east direction
 	 */
-	EAST,
+	EAST(1, 0),
 	/**
 	 * The west direction
 	 */
-	WEST;
+	WEST(-1, 0);
+	
+	/* The directions in their declaration order, indexed by ordinal */
+	private static final Direction[] VALUES = values();
+	
+	private final int offsetX;
+	private final int offsetY;
+	
+	private Direction(int offsetX, int offsetY) {
+		this.offsetX = offsetX;
+		this.offsetY = offsetY;
+	}
+	
+	/**
+	 * Return the offset to add to an abscissa to move in this direction
+	 * @return (int) -1, 0 or 1
+	 */
+	public int getOffsetX() {
+		return this.offsetX;
+	}
+	
+	/**
+	 * Return the offset to add to an ordinate to move in this direction
+	 * @return (int) -1, 0 or 1
+	 */
+	public int getOffsetY() {
+		return this.offsetY;
+	}
+	
+	/**
+	 * Return the bit of this direction in a mask of directions (1 &lt;&lt; ordinal)
+	 * @return (int) The bit
+	 */
+	public int getMask() {
+		return 1 << this.ordinal();
+	}
+	
+	/**
+	 * Return the direction with the ordinal passed in parameter, without allocating a new array as {@link #values()} does
+	 * @param ordinal (int) The ordinal, between 0 and 3
+	 * @return ({@link model.util.Direction}) The direction
+	 */
+	public static Direction get(int ordinal) {
+		return VALUES[ordinal];
+	}
+	
+	/**
+	 * Fill the array passed in parameter with the four directions (NORTH, SOUTH, EAST, WEST), then shuffle it<br>
+	 * The permutation is the same as the one given by {@link java.util.Collections#shuffle(java.util.List, Random)} on a new list of the four directions,
+	 * so a same seed still gives the same labyrinth
+	 * @param directions ({@link model.util.Direction}[4]) The array to fill, reused between calls
+	 * @param random ({@link Random}) The pseudo-random number generator
+	 * @return ({@link model.util.Direction}[4]) The array passed in parameter
+	 */
+	public static Direction[] shuffle(Direction[] directions, Random random) {
+		System.arraycopy(VALUES, 0, directions, 0, VALUES.length);
+		
+		for(int i = directions.length; i > 1; i--) {
+			int j = random.nextInt(i);
+			Direction tmp = directions[i - 1];
+			directions[i - 1] = directions[j];
+			directions[j] = tmp;
+		}
+		
+		return directions;
+	}
 	
 	/**
 	 * Return the opposite direction to that passed in parameter
@@ -43,4 +110,4 @@ public enum Direction {
 		
 		return null;
 	}
-}
\ No newline at end of file
+}
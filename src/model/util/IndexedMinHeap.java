@@ -0,0 +1,175 @@
+package model.util;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of int keys (between 0 and capacity - 1) ordered by an int priority<br>
+ * Each key can be in the heap only once, and its priority can be decreased in O(log n) (decrease-key)<br>
+ * Used by the A* algorithm with the cell indexes as keys
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ * @see <a href="https://en.wikipedia.org/wiki/Binary_heap">https://en.wikipedia.org/wiki/Binary_heap</a>
+ */
+public class IndexedMinHeap {
+	/* The keys, ordered as a binary heap */
+	private final int[] heap;
+	/* The priority of the key at each position of the heap */
+	private final int[] priorities;
+	/* The position of each key in the heap, -1 if the key is not in the heap */
+	private final int[] positions;
+	private int size = 0;
+	
+	/**
+	 * Construct a new empty heap
+	 * @param capacity (int) The number of possible keys
+	 */
+	public IndexedMinHeap(int capacity) {
+		this.heap = new int[capacity];
+		this.priorities = new int[capacity];
+		this.positions = new int[capacity];
+		Arrays.fill(this.positions, -1);
+	}
+	
+	/**
+	 * Inform if the heap is empty
+	 * @return (boolean) true if the heap is empty, false otherwise
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+	
+	/**
+	 * Get the number of keys in the heap
+	 * @return (int) The size
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * Get the number of possible keys
+	 * @return (int) The capacity
+	 */
+	public int capacity() {
+		return this.heap.length;
+	}
+	
+	/**
+	 * Remove all the keys of the heap
+	 */
+	public void clear() {
+		for(int i = 0; i < this.size; i++) {
+			this.positions[this.heap[i]] = -1;
+		}
+		
+		this.size = 0;
+	}
+	
+	/**
+	 * Inform if a key is in the heap
+	 * @param key (int) The key
+	 * @return (boolean) true if the key is in the heap, false otherwise
+	 */
+	public boolean contains(int key) {
+		return this.positions[key] >= 0;
+	}
+	
+	/**
+	 * Get the priority of a key in the heap
+	 * @param key (int) The key, must be in the heap
+	 * @return (int) The priority
+	 */
+	public int getPriority(int key) {
+		return this.priorities[this.positions[key]];
+	}
+	
+	/**
+	 * Add a key to the heap, or update its priority if it is already in the heap
+	 * @param key (int) The key
+	 * @param priority (int) The priority (the lowest priority is polled first)
+	 */
+	public void add(int key, int priority) {
+		int position = this.positions[key];
+		
+		if(position >= 0) {
+			int previous = this.priorities[position];
+			
+			if(priority < previous) {
+				this.siftUp(position, key, priority);
+			} else {
+				this.siftDown(position, key, priority);
+			}
+		} else {
+			this.size++;
+			this.siftUp(this.size - 1, key, priority);
+		}
+	}
+	
+	/**
+	 * Remove and return the key with the lowest priority
+	 * @return (int) The key
+	 */
+	public int poll() {
+		if(this.size == 0) throw new IllegalStateException("The heap is empty");
+		
+		int key = this.heap[0];
+		this.positions[key] = -1;
+		this.size--;
+		
+		if(this.size > 0) {
+			this.siftDown(0, this.heap[this.size], this.priorities[this.size]);
+		}
+		
+		return key;
+	}
+	
+	/**
+	 * Move up the key from its position until the heap is ordered
+	 * @param position (int) The start position
+	 * @param key (int) The key
+	 * @param priority (int) The priority of the key
+	 */
+	private void siftUp(int position, int key, int priority) {
+		while(position > 0) {
+			int parent = (position - 1) >>> 1;
+			if(this.priorities[parent] <= priority) break;
+			
+			this.move(parent, position);
+			position = parent;
+		}
+		
+		this.put(position, key, priority);
+	}
+	
+	/**
+	 * Move down the key from its position until the heap is ordered
+	 * @param position (int) The start position
+	 * @param key (int) The key
+	 * @param priority (int) The priority of the key
+	 */
+	private void siftDown(int position, int key, int priority) {
+		int half = this.size >>> 1;
+		
+		while(position < half) {
+			int child = 2 * position + 1;
+			if(child + 1 < this.size && this.priorities[child + 1] < this.priorities[child]) child++;
+			if(this.priorities[child] >= priority) break;
+			
+			this.move(child, position);
+			position = child;
+		}
+		
+		this.put(position, key, priority);
+	}
+	
+	private void move(int from, int to) {
+		this.put(to, this.heap[from], this.priorities[from]);
+	}
+	
+	private void put(int position, int key, int priority) {
+		this.heap[position] = key;
+		this.priorities[position] = priority;
+		this.positions[key] = position;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package model.util;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of primitive int values<br>
+ * Used by the algorithms to store cell indexes without boxing them
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class IntList {
+	private int[] values;
+	private int size = 0;
+	
+	/**
+	 * Construct a new empty list
+	 * @param capacity (int) The initial capacity
+	 */
+	public IntList(int capacity) {
+		this.values = new int[Math.max(capacity, 1)];
+	}
+	
+	/**
+	 * Construct a new empty list
+	 */
+	public IntList() {
+		this(16);
+	}
+	
+	/**
+	 * Add a value at the end of the list
+	 * @param value (int) The value
+	 */
+	public void add(int value) {
+		if(this.size == this.values.length) {
+			this.values = Arrays.copyOf(this.values, this.values.length * 2);
+		}
+		
+		this.values[this.size++] = value;
+	}
+	
+	/**
+	 * Get the value at the index passed in parameter
+	 * @param index (int) The index
+	 * @return (int) The value
+	 */
+	public int get(int index) {
+		if(index >= this.size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		return this.values[index];
+	}
+	
+	/**
+	 * Remove the value at the index passed in parameter, shifting the following values to the left
+	 * @param index (int) The index
+	 * @return (int) The removed value
+	 */
+	public int removeAt(int index) {
+		int value = this.get(index);
+		System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+		this.size--;
+		return value;
+	}
+	
+	/**
+	 * Remove the last value of the list
+	 * @return (int) The removed value
+	 */
+	public int removeLast() {
+		return this.removeAt(this.size - 1);
+	}
+	
+	/**
+	 * Remove all the values of the list
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+	
+	/**
+	 * Get the size of the list
+	 * @return (int) The number of values
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * Inform if the list is empty
+	 * @return (boolean) true if the list is empty, false otherwise
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+}
@@ -0,0 +1,89 @@
+package model.util;
+
+import java.util.Arrays;
+
+/**
+ * A first-in first-out queue of primitive int values, stored in a ring buffer<br>
+ * Used by the algorithms to store cell indexes without boxing them
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class IntQueue {
+	private int[] values;
+	/* The position of the head of the queue in the ring buffer */
+	private int head = 0;
+	private int size = 0;
+	
+	/**
+	 * Construct a new empty queue
+	 * @param capacity (int) The initial capacity
+	 */
+	public IntQueue(int capacity) {
+		this.values = new int[Math.max(capacity, 1)];
+	}
+	
+	/**
+	 * Construct a new empty queue
+	 */
+	public IntQueue() {
+		this(16);
+	}
+	
+	/**
+	 * Add a value at the tail of the queue
+	 * @param value (int) The value
+	 */
+	public void add(int value) {
+		if(this.size == this.values.length) {
+			int[] values = Arrays.copyOf(this.values, this.values.length * 2);
+			System.arraycopy(this.values, 0, values, this.values.length, this.head);
+			this.values = values;
+		}
+		
+		int tail = this.head + this.size;
+		if(tail >= this.values.length) tail -= this.values.length;
+		
+		this.values[tail] = value;
+		this.size++;
+	}
+	
+	/**
+	 * Remove and return the value at the head of the queue
+	 * @return (int) The value
+	 */
+	public int poll() {
+		if(this.size == 0) throw new IllegalStateException("The queue is empty");
+		
+		int value = this.values[this.head];
+		this.head++;
+		if(this.head == this.values.length) this.head = 0;
+		this.size--;
+		
+		return value;
+	}
+	
+	/**
+	 * Remove all the values of the queue
+	 */
+	public void clear() {
+		this.head = 0;
+		this.size = 0;
+	}
+	
+	/**
+	 * Get the size of the queue
+	 * @return (int) The number of values
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * Inform if the queue is empty
+	 * @return (boolean) true if the queue is empty, false otherwise
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+}
\ No newline at end of file
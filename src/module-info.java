@@ -7,6 +7,7 @@ module labyrinthMarathon {
 	exports model.solvingAlgorithm;
 
 	requires java.desktop;
+	requires jdk.management;
 	requires javafx.base;
 	requires javafx.controls;
 	requires javafx.graphics;
@@ -0,0 +1,238 @@
+package view;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+
+import controller.GameController;
+import controller.GameLoop;
+import model.GenerationAlgorithmStrategy;
+import model.Labyrinth;
+import model.SolvingAlgorithmStrategy;
+import model.SolvingContext;
+import model.util.Position;
+
+/**
+ * Play labyrinths with the auto player, without any graphical interface (does not initialize JavaFX)<br>
+ * For each seed, a labyrinth is generated, solved with the chosen {@link SolvingAlgorithmStrategy}, then the path is replayed by the auto player of a {@link GameController} without view,
+ * its {@link GameLoop} running at max speed<br>
+ * Used to measure the throughput of the solving algorithms and of the moves of the player<br>
+ * Usage : <code>AutoPlayBenchmark [--generator=GrowingTree] [--solver=AStar] [--width=100] [--height=100] [--seeds=0-9]</code><br>
+ * The generator and the solver are the names of classes of the packages model.generationAlgorithm and model.solvingAlgorithm if no package is given
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class AutoPlayBenchmark {
+	private static final String SOLVING_PACKAGE = "model.solvingAlgorithm.";
+	
+	private final Class<? extends GenerationAlgorithmStrategy> generator;
+	private final Class<? extends SolvingAlgorithmStrategy> solver;
+	private final int width;
+	private final int height;
+	private final long firstSeed;
+	private final long lastSeed;
+	
+	/**
+	 * Construct a new benchmark
+	 * @param generator (Class&lt;? extends {@link GenerationAlgorithmStrategy}&gt;) The generation algorithm, must have a public constructor without parameter
+	 * @param solver (Class&lt;? extends {@link SolvingAlgorithmStrategy}&gt;) The solving algorithm, must have a public constructor without parameter
+	 * @param width (int) The width of the labyrinths
+	 * @param height (int) The height of the labyrinths
+	 * @param firstSeed (long) The first seed (inclusive)
+	 * @param lastSeed (long) The last seed (inclusive)
+	 */
+	public AutoPlayBenchmark(Class<? extends GenerationAlgorithmStrategy> generator, Class<? extends SolvingAlgorithmStrategy> solver, int width, int height, long firstSeed, long lastSeed) {
+		if(lastSeed < firstSeed || lastSeed - firstSeed >= Integer.MAX_VALUE) throw new IllegalArgumentException("Invalid seed range: " + firstSeed + "-" + lastSeed);
+		
+		this.generator = generator;
+		this.solver = solver;
+		this.width = width;
+		this.height = height;
+		this.firstSeed = firstSeed;
+		this.lastSeed = lastSeed;
+	}
+	
+	/**
+	 * Generate, solve and play the labyrinths, one per seed, one after the other
+	 * @return ({@link Report}) The measures of the solving and of the moves
+	 * @throws Exception If an algorithm can't be built, or if the auto player did not reach the exit
+	 */
+	public Report run() throws Exception {
+		int count = (int) (this.lastSeed - this.firstSeed + 1);
+		long[] solveTimes = new long[count];
+		long[] pathLengths = new long[count];
+		long[] nodesExpanded = new long[count];
+		long[] replayTimes = new long[count];
+		GenerationAlgorithmStrategy algorithm = this.generator.getConstructor().newInstance();
+		SolvingAlgorithmStrategy algorithmSolve = this.solver.getConstructor().newInstance();
+		
+		for(int i = 0; i < count; i++) {
+			long seed = this.firstSeed + i;
+			Labyrinth labyrinth = new Labyrinth(this.width, this.height, algorithm, algorithmSolve, true);
+			labyrinth.generate(seed, false);
+			
+			// Solving, as the auto player does (the solving algorithms stop when the auto player is disabled)
+			labyrinth.setAutoPlayer(true);
+			SolvingContext context = new SolvingContext();
+			long start = System.nanoTime();
+			Queue<Position> path = algorithmSolve.getPath(labyrinth, context);
+			solveTimes[i] = System.nanoTime() - start;
+			
+			if(path == null) throw new IllegalStateException("No path found for the seed " + seed);
+			
+			pathLengths[i] = path.size() - 1; // Number of moves
+			nodesExpanded[i] = context.getNodesExpanded();
+			
+			// Replay by the auto player
+			GameController controller = new GameController(labyrinth);
+			controller.setUseThreadedCheckBlocked(false);
+			controller.getGameLoop().setMaxSpeed(true);
+			
+			start = System.nanoTime();
+			controller.enableAutoPlayer(path);
+			controller.getGameLoop().awaitIdle();
+			replayTimes[i] = System.nanoTime() - start;
+			
+			controller.exit();
+			
+			if(!controller.isGoalAchieved()) throw new IllegalStateException("The auto player did not reach the exit for the seed " + seed);
+		}
+		
+		return new Report(solveTimes, pathLengths, nodesExpanded, replayTimes);
+	}
+	
+	/**
+	 * The result of a benchmark
+	 * @author Eliastik
+	 * @version 1.1
+	 * @since 17/10/2026
+	 */
+	public static class Report {
+		private final long[] solveTimes;
+		private final long[] pathLengths;
+		private final long[] nodesExpanded;
+		private final long[] replayTimes;
+		
+		/**
+		 * Construct a new report
+		 * @param solveTimes (long[]) The time of the solving of each labyrinth, in nanoseconds
+		 * @param pathLengths (long[]) The number of moves of the path of each labyrinth
+		 * @param nodesExpanded (long[]) The number of cells expanded by the solving algorithm for each labyrinth
+		 * @param replayTimes (long[]) The time of the moves of the auto player in each labyrinth, in nanoseconds
+		 */
+		public Report(long[] solveTimes, long[] pathLengths, long[] nodesExpanded, long[] replayTimes) {
+			this.solveTimes = solveTimes.clone();
+			this.pathLengths = pathLengths.clone();
+			this.nodesExpanded = nodesExpanded.clone();
+			this.replayTimes = replayTimes.clone();
+		}
+		
+		/**
+		 * Get the number of labyrinths played
+		 * @return (int) The number of labyrinths
+		 */
+		public int getCount() {
+			return this.solveTimes.length;
+		}
+		
+		/**
+		 * Get the average time of the solving of a labyrinth
+		 * @return (double) The time, in milliseconds
+		 */
+		public double getSolveTime() {
+			return average(this.solveTimes) / 1e6;
+		}
+		
+		/**
+		 * Get a percentile of the time of the solving of a labyrinth (nearest-rank method)
+		 * @param percentile (double) The percentile, between 0 and 100
+		 * @return (double) The time, in milliseconds
+		 */
+		public double getSolveTimePercentile(double percentile) {
+			long[] sorted = this.solveTimes.clone();
+			Arrays.sort(sorted);
+			
+			return HeadlessTools.percentile(sorted, percentile) / 1e6;
+		}
+		
+		/**
+		 * Get the average number of moves of the path to the exit
+		 * @return (double) The number of moves
+		 */
+		public double getPathLength() {
+			return average(this.pathLengths);
+		}
+		
+		/**
+		 * Get the average number of cells expanded by the solving algorithm
+		 * @return (double) The number of cells
+		 */
+		public double getNodesExpanded() {
+			return average(this.nodesExpanded);
+		}
+		
+		/**
+		 * Get the number of moves of the auto player per second
+		 * @return (double) The number of moves per second
+		 */
+		public double getMovesPerSecond() {
+			long time = Arrays.stream(this.replayTimes).sum();
+			return time > 0 ? Arrays.stream(this.pathLengths).sum() * 1e9 / time : 0;
+		}
+		
+		private static double average(long[] values) {
+			return values.length > 0 ? (double) Arrays.stream(values).sum() / values.length : 0;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("%d labyrinths%nsolve time: %.3f ms (p50 %.3f ms, p99 %.3f ms)%npath length: %.1f moves%nnodes expanded: %.1f (%.2f per move)%n%.0f moves/s",
+					this.getCount(), this.getSolveTime(), this.getSolveTimePercentile(50), this.getSolveTimePercentile(99),
+					this.getPathLength(), this.getNodesExpanded(), this.getPathLength() > 0 ? this.getNodesExpanded() / this.getPathLength() : 0, this.getMovesPerSecond());
+		}
+	}
+	
+	/**
+	 * Find a solving algorithm by its class name
+	 * @param name (String) The simple name of a class of the package model.solvingAlgorithm, or a fully qualified class name
+	 * @return (Class&lt;? extends {@link SolvingAlgorithmStrategy}&gt;) The class
+	 * @throws ClassNotFoundException If the class does not exist
+	 */
+	public static Class<? extends SolvingAlgorithmStrategy> findSolver(String name) throws ClassNotFoundException {
+		Class<?> solver = Class.forName(name.contains(".") ? name : SOLVING_PACKAGE + name);
+		
+		if(!SolvingAlgorithmStrategy.class.isAssignableFrom(solver)) {
+			throw new ClassNotFoundException(solver.getName());
+		}
+		
+		return solver.asSubclass(SolvingAlgorithmStrategy.class);
+	}
+	
+	public static void main(String[] args) {
+		try {
+			Map<String, String> arguments = HeadlessTools.parseArguments(args, "--generator", "--solver", "--width", "--height", "--seeds");
+			String generator = arguments.getOrDefault("--generator", "GrowingTree");
+			String solver = arguments.getOrDefault("--solver", "AStar");
+			int width = Integer.parseInt(arguments.getOrDefault("--width", "100"));
+			int height = Integer.parseInt(arguments.getOrDefault("--height", "100"));
+			long[] seeds = HeadlessTools.parseSeeds(arguments.getOrDefault("--seeds", "0-9"));
+			long firstSeed = seeds[0];
+			long lastSeed = seeds[1];
+			
+			AutoPlayBenchmark benchmark = new AutoPlayBenchmark(BatchGenerator.findGenerator(generator), findSolver(solver), width, height, firstSeed, lastSeed);
+			System.out.println(generator + " " + width + "x" + height + ", " + solver + ", seeds " + firstSeed + "-" + lastSeed);
+			System.out.println(benchmark.run());
+		} catch(ClassNotFoundException e) {
+			System.err.println("Algorithm not found: " + e.getMessage());
+			System.exit(1);
+		} catch(IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println("Usage: AutoPlayBenchmark [--generator=GrowingTree] [--solver=AStar] [--width=100] [--height=100] [--seeds=0-9]");
+			System.exit(1);
+		} catch(Exception e) {
+			e.printStackTrace();
+			System.exit(1);
+		}
+	}
+}
\ No newline at end of file
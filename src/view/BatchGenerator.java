@@ -0,0 +1,232 @@
+package view;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import model.GenerationAlgorithmStrategy;
+import model.GenerationService;
+import model.GenerationService.GenerationTask;
+import model.Labyrinth;
+
+/**
+ * Generate a batch of labyrinths in parallel, without any graphical interface (does not initialize JavaFX)<br>
+ * Used to generate labyrinths offline and to measure the generation throughput<br>
+ * Usage : <code>BatchGenerator [--generator=GrowingTree] [--width=20] [--height=20] [--seeds=0-999] [--threads=N] [--output=directory]</code><br>
+ * The generator is the name of a {@link GenerationAlgorithmStrategy} class (in the package model.generationAlgorithm if no package is given)<br>
+ * If an output directory is given, each labyrinth is written in a text file named by its seed
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class BatchGenerator {
+	private static final String GENERATION_PACKAGE = "model.generationAlgorithm.";
+	
+	private final Class<? extends GenerationAlgorithmStrategy> generator;
+	private final int width;
+	private final int height;
+	private final long firstSeed;
+	private final long lastSeed;
+	private final int threads;
+	private final Path output;
+	
+	/**
+	 * Construct a new batch generator
+	 * @param generator (Class&lt;? extends {@link GenerationAlgorithmStrategy}&gt;) The generation algorithm, must have a public constructor without parameter
+	 * @param width (int) The width of the labyrinths
+	 * @param height (int) The height of the labyrinths
+	 * @param firstSeed (long) The first seed (inclusive)
+	 * @param lastSeed (long) The last seed (inclusive)
+	 * @param threads (int) The number of threads
+	 * @param output ({@link Path}) The directory where to write the labyrinths, null to not write them
+	 */
+	public BatchGenerator(Class<? extends GenerationAlgorithmStrategy> generator, int width, int height, long firstSeed, long lastSeed, int threads, Path output) {
+		if(lastSeed < firstSeed || lastSeed - firstSeed >= Integer.MAX_VALUE) throw new IllegalArgumentException("Invalid seed range: " + firstSeed + "-" + lastSeed);
+		if(threads <= 0) throw new IllegalArgumentException("Invalid number of threads: " + threads);
+		
+		this.generator = generator;
+		this.width = width;
+		this.height = height;
+		this.firstSeed = firstSeed;
+		this.lastSeed = lastSeed;
+		this.threads = threads;
+		this.output = output;
+	}
+	
+	/**
+	 * Generate the labyrinths, one per seed, with a {@link GenerationService}<br>
+	 * At most a few labyrinths per thread are waiting in memory to be written
+	 * @return ({@link Report}) The throughput and latency of the generation
+	 * @throws Exception If a generation failed
+	 */
+	public Report run() throws Exception {
+		int count = (int) (this.lastSeed - this.firstSeed + 1);
+		long[] latencies = new long[count];
+		Deque<GenerationTask> pending = new ArrayDeque<>();
+		GenerationAlgorithmStrategy algorithm = this.generator.getConstructor().newInstance(); // Shared by all the generations
+		
+		long start = System.nanoTime();
+		
+		try(GenerationService service = new GenerationService(this.threads)) {
+			long nextDone = this.firstSeed; // The tasks are done in the order of the seeds
+			
+			for(long seed = this.firstSeed; seed <= this.lastSeed; seed++) {
+				pending.add(service.submit(this.width, this.height, algorithm, seed));
+				if(pending.size() > this.threads * 4) this.collect(pending.poll(), nextDone++, latencies);
+			}
+			
+			while(!pending.isEmpty()) {
+				this.collect(pending.poll(), nextDone++, latencies);
+			}
+		}
+		
+		return new Report(count, (long) this.width * this.height, System.nanoTime() - start, latencies);
+	}
+	
+	/**
+	 * Wait for a generation, then write the labyrinth generated
+	 * @param task ({@link GenerationTask}) The generation
+	 * @param seed (long) The seed of the labyrinth
+	 * @param latencies (long[]) The time of the generation of each labyrinth, indexed by seed
+	 * @throws Exception If the generation failed
+	 */
+	private void collect(GenerationTask task, long seed, long[] latencies) throws Exception {
+		Labyrinth labyrinth;
+		
+		try {
+			labyrinth = task.get();
+		} catch(ExecutionException e) {
+			if(e.getCause() instanceof Exception) throw (Exception) e.getCause();
+			throw e;
+		}
+		
+		long latency = task.getGenerationTime();
+		if(latency < 0) throw new IllegalStateException("No generation time for the seed " + seed);
+		
+		latencies[(int) (seed - this.firstSeed)] = latency;
+		if(this.output != null) this.write(labyrinth, seed);
+	}
+	
+	private void write(Labyrinth labyrinth, long seed) throws IOException {
+		try(Writer writer = Files.newBufferedWriter(this.output.resolve(seed + ".txt"), StandardCharsets.UTF_8)) {
+			writer.write(labyrinth.toString());
+		}
+	}
+	
+	/**
+	 * The result of a batch generation
+	 * @author Eliastik
+	 * @version 1.1
+	 * @since 17/10/2026
+	 */
+	public static class Report {
+		private final int count;
+		private final long cellCount;
+		private final long totalTime;
+		private final long[] latencies;
+		
+		/**
+		 * Construct a new report
+		 * @param count (int) The number of labyrinths generated
+		 * @param cellCount (long) The number of cells of each labyrinth
+		 * @param totalTime (long) The total time of the generation, in nanoseconds
+		 * @param latencies (long[]) The time of the generation of each labyrinth, in nanoseconds
+		 */
+		public Report(int count, long cellCount, long totalTime, long[] latencies) {
+			this.count = count;
+			this.cellCount = cellCount;
+			this.totalTime = totalTime;
+			this.latencies = latencies.clone();
+			Arrays.sort(this.latencies);
+		}
+		
+		/**
+		 * Get the number of labyrinths generated per second
+		 * @return (double) The number of labyrinths per second
+		 */
+		public double getMazesPerSecond() {
+			return this.count * 1e9 / this.totalTime;
+		}
+		
+		/**
+		 * Get the number of cells generated per second
+		 * @return (double) The number of cells per second
+		 */
+		public double getCellsPerSecond() {
+			return this.count * this.cellCount * 1e9 / this.totalTime;
+		}
+		
+		/**
+		 * Get a percentile of the time of the generation of a labyrinth (nearest-rank method)
+		 * @param percentile (double) The percentile, between 0 and 100
+		 * @return (long) The time, in nanoseconds
+		 */
+		public long getLatencyPercentile(double percentile) {
+			return HeadlessTools.percentile(this.latencies, percentile);
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("%d labyrinths in %.3f s%n%.1f labyrinths/s%n%.0f cells/s%np50 latency: %.3f ms%np99 latency: %.3f ms",
+					this.count, this.totalTime / 1e9, this.getMazesPerSecond(), this.getCellsPerSecond(),
+					this.getLatencyPercentile(50) / 1e6, this.getLatencyPercentile(99) / 1e6);
+		}
+	}
+	
+	/**
+	 * Find a generation algorithm by its class name
+	 * @param name (String) The simple name of a class of the package model.generationAlgorithm, or a fully qualified class name
+	 * @return (Class&lt;? extends {@link GenerationAlgorithmStrategy}&gt;) The class
+	 * @throws ClassNotFoundException If the class does not exist
+	 */
+	public static Class<? extends GenerationAlgorithmStrategy> findGenerator(String name) throws ClassNotFoundException {
+		Class<?> generator = Class.forName(name.contains(".") ? name : GENERATION_PACKAGE + name);
+		
+		if(!GenerationAlgorithmStrategy.class.isAssignableFrom(generator)) {
+			throw new ClassNotFoundException(generator.getName());
+		}
+		
+		return generator.asSubclass(GenerationAlgorithmStrategy.class);
+	}
+	
+	public static void main(String[] args) {
+		try {
+			Map<String, String> arguments = HeadlessTools.parseArguments(args, "--generator", "--width", "--height", "--seeds", "--threads", "--output");
+			String generator = arguments.getOrDefault("--generator", "GrowingTree");
+			int width = Integer.parseInt(arguments.getOrDefault("--width", "20"));
+			int height = Integer.parseInt(arguments.getOrDefault("--height", "20"));
+			long[] seeds = HeadlessTools.parseSeeds(arguments.getOrDefault("--seeds", "0-999"));
+			long firstSeed = seeds[0];
+			long lastSeed = seeds[1];
+			int threads = arguments.containsKey("--threads") ? Integer.parseInt(arguments.get("--threads")) : Runtime.getRuntime().availableProcessors();
+			Path output = null;
+			
+			if(arguments.containsKey("--output")) {
+				output = Paths.get(arguments.get("--output"));
+				Files.createDirectories(output);
+			}
+			
+			BatchGenerator batch = new BatchGenerator(findGenerator(generator), width, height, firstSeed, lastSeed, threads, output);
+			System.out.println(generator + " " + width + "x" + height + ", seeds " + firstSeed + "-" + lastSeed + ", " + threads + " thread(s)");
+			System.out.println(batch.run());
+		} catch(ClassNotFoundException e) {
+			System.err.println("Generation algorithm not found: " + e.getMessage());
+			System.exit(1);
+		} catch(IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println("Usage: BatchGenerator [--generator=GrowingTree] [--width=20] [--height=20] [--seeds=0-999] [--threads=N] [--output=directory]");
+			System.exit(1);
+		} catch(Exception e) {
+			e.printStackTrace();
+			System.exit(1);
+		}
+	}
+}
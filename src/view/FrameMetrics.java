@@ -0,0 +1,280 @@
+package view;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * The measures of the rendering of the frames of a {@link GameGraphicalView} : time between two frames, time of the drawing split by phase,
+ * number of images drawn and memory allocated by the rendering thread<br>
+ * The measures are averaged over the last {@link #HISTORY} frames, and can be read from any thread (tests, headless runs)<br>
+ * The measures are owned by the {@link controller.GameController} of the game ({@link controller.GameController#getFrameMetrics()}), so they can be read without the view<br>
+ * The allocated memory is read from the management extensions of the virtual machine (modules java.management and jdk.management) :
+ * if they are not available in the runtime image, the allocation rate is not measured
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+public class FrameMetrics {
+	/**
+	 * The number of frames over which the measures are averaged
+	 */
+	public static final int HISTORY = 120;
+	
+	/**
+	 * The phases of the drawing of a frame
+	 * @author Eliastik
+	 * @version 1.1
+	 * @since 17/10/2026
+	 */
+	public enum Phase {
+		BACKGROUND, WALLS, CELLS, TEXT;
+	}
+	
+	private static final Phase[] PHASES = Phase.values();
+	
+	private AllocationCounter allocationCounter; // Created at the first frame, null if not supported
+	private boolean allocationChecked = false;
+	// Circular buffers of the measures of the last frames
+	private final long[] frameTimes = new long[HISTORY];
+	private final long[] drawTimes = new long[HISTORY];
+	private final long[][] phaseTimes = new long[PHASES.length][HISTORY];
+	private final int[] imageCounts = new int[HISTORY];
+	private final long[] allocatedBytes = new long[HISTORY];
+	private int frameIndex = 0;
+	private long frameCount = 0;
+	// Frame being drawn
+	private long frameTime = 0;
+	private long drawStart = 0;
+	private long phaseStart = 0;
+	private Phase phase = null;
+	private long allocationStart = -1;
+	
+	/**
+	 * Construct new metrics, without any frame
+	 */
+	public FrameMetrics() {}
+	
+	/**
+	 * Start the drawing of a frame
+	 * @param frameTime (long) The time since the previous frame, in nanoseconds
+	 */
+	public synchronized void startFrame(long frameTime) {
+		this.frameTime = frameTime;
+		this.phase = null;
+		
+		int i = this.frameIndex;
+		this.imageCounts[i] = 0;
+		for(int p = 0; p < PHASES.length; p++) this.phaseTimes[p][i] = 0;
+		
+		// Allocations between the start of the previous frame and the start of this frame
+		long allocated = this.getAllocatedBytes();
+		this.allocatedBytes[i] = this.allocationStart >= 0 && allocated >= 0 ? allocated - this.allocationStart : 0;
+		this.allocationStart = allocated;
+		
+		this.drawStart = System.nanoTime();
+	}
+	
+	/**
+	 * End the current phase of the drawing of the frame, and start another one
+	 * @param phase ({@link Phase}) The phase started, null to end the current phase only
+	 */
+	public synchronized void startPhase(Phase phase) {
+		long now = System.nanoTime();
+		if(this.phase != null) this.phaseTimes[this.phase.ordinal()][this.frameIndex] += now - this.phaseStart;
+		this.phase = phase;
+		this.phaseStart = now;
+	}
+	
+	/**
+	 * Count images drawn in the current frame
+	 * @param count (int) The number of images drawn
+	 */
+	public synchronized void countImages(int count) {
+		this.imageCounts[this.frameIndex] += count;
+	}
+	
+	/**
+	 * End the drawing of the current frame
+	 */
+	public synchronized void endFrame() {
+		this.startPhase(null);
+		this.frameTimes[this.frameIndex] = this.frameTime;
+		this.drawTimes[this.frameIndex] = System.nanoTime() - this.drawStart;
+		this.frameIndex = (this.frameIndex + 1) % HISTORY;
+		this.frameCount++;
+	}
+	
+	/**
+	 * Get the number of frames drawn
+	 * @return (long) The number of frames
+	 */
+	public synchronized long getFrameCount() {
+		return this.frameCount;
+	}
+	
+	/**
+	 * Get the average time between two frames
+	 * @return (double) The time, in milliseconds
+	 */
+	public synchronized double getFrameTime() {
+		return average(this.frameTimes) / 1e6;
+	}
+	
+	/**
+	 * Get the longest time between two frames
+	 * @return (double) The time, in milliseconds
+	 */
+	public synchronized double getMaxFrameTime() {
+		long max = 0;
+		for(int i = 0; i < this.getSampleCount(); i++) max = Math.max(max, this.frameTimes[i]);
+		return max / 1e6;
+	}
+	
+	/**
+	 * Get the number of frames per second
+	 * @return (double) The number of frames per second, 0 if no frame was drawn
+	 */
+	public synchronized double getFramesPerSecond() {
+		double frameTime = this.getFrameTime();
+		return frameTime > 0 ? 1000 / frameTime : 0;
+	}
+	
+	/**
+	 * Get the average time of the drawing of a frame
+	 * @return (double) The time, in milliseconds
+	 */
+	public synchronized double getDrawTime() {
+		return average(this.drawTimes) / 1e6;
+	}
+	
+	/**
+	 * Get the average time of a phase of the drawing of a frame
+	 * @param phase ({@link Phase}) The phase
+	 * @return (double) The time, in milliseconds
+	 */
+	public synchronized double getPhaseTime(Phase phase) {
+		return average(this.phaseTimes[phase.ordinal()]) / 1e6;
+	}
+	
+	/**
+	 * Get the average number of images drawn per frame
+	 * @return (double) The number of images
+	 */
+	public synchronized double getImageCount() {
+		int count = this.getSampleCount();
+		if(count == 0) return 0;
+		
+		long sum = 0;
+		for(int i = 0; i < count; i++) sum += this.imageCounts[i];
+		
+		return (double) sum / count;
+	}
+	
+	/**
+	 * Get the memory allocated per second by the rendering thread
+	 * @return (double) The allocation rate, in bytes per second, or -1 if not supported by the virtual machine
+	 */
+	public synchronized double getAllocationRate() {
+		if(this.getAllocationCounter() == null) return -1;
+		
+		long time = 0;
+		long bytes = 0;
+		
+		for(int i = 0; i < this.getSampleCount(); i++) {
+			time += this.frameTimes[i];
+			bytes += this.allocatedBytes[i];
+		}
+		
+		return time > 0 ? bytes * 1e9 / time : 0;
+	}
+	
+	/**
+	 * Forget all the frames drawn
+	 */
+	public synchronized void reset() {
+		this.frameIndex = 0;
+		this.frameCount = 0;
+		this.allocationStart = -1;
+	}
+	
+	@Override
+	public synchronized String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format("%.1f FPS, frame %.2f ms (max %.2f ms), draw %.2f ms", this.getFramesPerSecond(), this.getFrameTime(), this.getMaxFrameTime(), this.getDrawTime()));
+		
+		for(Phase phase : PHASES) {
+			builder.append(String.format("%n  %s %.2f ms", phase.name().toLowerCase(), this.getPhaseTime(phase)));
+		}
+		
+		builder.append(String.format("%n%.0f images/frame", this.getImageCount()));
+		
+		double allocationRate = this.getAllocationRate();
+		if(allocationRate >= 0) builder.append(String.format("%n%.2f MB/s allocated", allocationRate / (1024 * 1024)));
+		
+		return builder.toString();
+	}
+	
+	private int getSampleCount() {
+		return (int) Math.min(this.frameCount, HISTORY);
+	}
+	
+	private double average(long[] values) {
+		int count = this.getSampleCount();
+		if(count == 0) return 0;
+		
+		long sum = 0;
+		for(int i = 0; i < count; i++) sum += values[i];
+		
+		return (double) sum / count;
+	}
+	
+	private long getAllocatedBytes() {
+		AllocationCounter counter = this.getAllocationCounter();
+		return counter != null ? counter.getAllocatedBytes() : -1;
+	}
+	
+	private AllocationCounter getAllocationCounter() {
+		if(!this.allocationChecked) {
+			this.allocationChecked = true;
+			this.allocationCounter = AllocationCounter.create();
+		}
+		
+		return this.allocationCounter;
+	}
+	
+	/**
+	 * The memory allocated by the current thread, read from the management extensions of the virtual machine<br>
+	 * In a class of its own so the classes of the management modules are loaded only when it is created
+	 * @author Eliastik
+	 * @version 1.1
+	 * @since 17/10/2026
+	 */
+	private static class AllocationCounter {
+		private final com.sun.management.ThreadMXBean threads;
+		
+		private AllocationCounter(com.sun.management.ThreadMXBean threads) {
+			this.threads = threads;
+		}
+		
+		/**
+		 * Create a counter
+		 * @return (AllocationCounter) The counter, null if the virtual machine can't measure the allocated memory
+		 */
+		static AllocationCounter create() {
+			try {
+				Object threads = ManagementFactory.getThreadMXBean();
+				
+				if(threads instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+					return new AllocationCounter((com.sun.management.ThreadMXBean) threads);
+				}
+			} catch(LinkageError | RuntimeException e) {
+				// Management modules not in the runtime image
+			}
+			
+			return null;
+		}
+		
+		long getAllocatedBytes() {
+			return this.threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+}
+}
\ No newline at end of file
@@ -28,6 +28,7 @@ import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.BorderPane;
@@ -36,11 +37,10 @@ import javafx.scene.layout.Pane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
-import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import javafx.util.Duration;
-import model.Cell;
 import model.CellValue;
 import model.Labyrinth;
 import model.util.Direction;
@@ -55,6 +55,12 @@ import model.util.Position;
 public class GameGraphicalView extends Application implements GameView {
 	protected Stage stage;
 	private Canvas canvas;
+	private MazeLayer mazeLayer; // Retained drawing of the labyrinth, under the canvas
+	private MazeOverview mazeOverview; // Drawing of the labyrinth when its tiles are too small, under the canvas
+	private static final Font METRICS_FONT = new Font(12);
+	private final HudMessage hudMessage = new HudMessage(); // Message at the center of the game
+	private FrameMetrics metrics; // The measures of the controller
+	private boolean displayMetrics = false;
 	private GameLauncher launcher;
 	private GameController controller;
 	// Thread / Timeline
@@ -67,6 +73,7 @@ public class GameGraphicalView extends Application implements GameView {
 	private Position prevPosition = new Position(0, 0);
 	private Map<Map.Entry<Position, Direction>, Double> moveAnimDir = new LinkedHashMap<>();
 	private long durationAnimation = 250; // ms
+	private static final double MIN_ANIMATION_DURATION = 1000.0 / 60; // ms, faster moves are not animated (one frame)
 	// Camera
 	protected double[] camera = new double[]{1.0, 0.0, 0.0}; // zoom / posX / posY
 	private double precXDrag = -1.0;
@@ -97,6 +104,7 @@ public class GameGraphicalView extends Application implements GameView {
 		Labyrinth labyrinth = new Labyrinth();
 		labyrinth.generate(System.currentTimeMillis(), false);
 		this.controller = new GameController(labyrinth, this);
+		this.metrics = this.controller.getFrameMetrics();
 	}
 
 	public void setDisplayInfoStart(boolean displayInfoStart) {
@@ -105,6 +113,7 @@ public class GameGraphicalView extends Application implements GameView {
 
 	public void setController(GameController controller) {
 		this.controller = controller;
+		this.metrics = controller.getFrameMetrics();
 		this.prevPosition = controller.getPlayerPosition();
 	}
 	
@@ -127,6 +136,8 @@ public class GameGraphicalView extends Application implements GameView {
 		BorderPane root = new BorderPane();
 		CanvasPane pane = new CanvasPane(800, 600);
 		this.canvas = pane.getCanvas();
+		this.mazeLayer = new MazeLayer(pane.getLayer(), brick, crossed, start, background, current, frontier);
+		this.mazeOverview = new MazeOverview(pane.getOverview(), brick, crossed, start, background, current, frontier);
 		root.setCenter(pane);
 		
 		HBox hbox = new HBox();
@@ -240,16 +251,37 @@ public class GameGraphicalView extends Application implements GameView {
 			}
 		});
 		
+		CheckBox checkboxMetrics = new CheckBox();
+		Label labelMetrics = new Label(locales.getString("metrics"));
+		labelMetrics.setFont(new Font(15));
+		checkboxMetrics.setLayoutX(18);
+		checkboxMetrics.setLayoutY(scene.getHeight() - 170);
+		labelMetrics.setLayoutX(45);
+		labelMetrics.setLayoutY(scene.getHeight() - 170);
+		
+		labelMetrics.addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
+			checkboxMetrics.setSelected(!checkboxMetrics.isSelected());
+		});
+		
+		checkboxMetrics.selectedProperty().addListener(new ChangeListener<Boolean>() {
+			@Override
+			public void changed(ObservableValue<? extends Boolean> observable, Boolean oldValue, Boolean newValue) {
+				displayMetrics = newValue;
+			}
+		});
+		
 		scene.heightProperty().addListener(new ChangeListener<Number>() {
 			@Override
 			public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
 				resetCamera.setLayoutY(scene.getHeight() - 110);
 				checkboxAutoCamera.setLayoutY(scene.getHeight() - 140);
 				labelAutoCamera.setLayoutY(scene.getHeight() - 140);
+				checkboxMetrics.setLayoutY(scene.getHeight() - 170);
+				labelMetrics.setLayoutY(scene.getHeight() - 170);
 			}
 		});
 		
-		pane.getChildren().addAll(resetCamera, checkboxAutoCamera, labelAutoCamera);
+		pane.getChildren().addAll(resetCamera, checkboxAutoCamera, labelAutoCamera, checkboxMetrics, labelMetrics);
 		
 		if(!controller.isAutoPlayer()) {
 			scene.setOnKeyPressed(e -> {
@@ -264,7 +296,12 @@ public class GameGraphicalView extends Application implements GameView {
 				@Override
 				public void handle(long time) {
 					if(!exited) {
+						metrics.startFrame(prevTime > 0 ? time - prevTime : 0);
 						draw(time, (time - prevTime), brick, crossed, start, background, current, frontier, player, locales);
+						metrics.endFrame();
+						
+						if(displayMetrics) drawMetrics();
+						
 						prevTime = time;
 					} else {
 						this.stop();
@@ -342,6 +379,16 @@ public class GameGraphicalView extends Application implements GameView {
 		return size;
 	}
 	
+	/**
+	 * Get the size of a tile, not rounded to a pixel
+	 * @return (double) The size of a tile, in pixels
+	 */
+	private double getTileSize() {
+		double width = this.canvas.getWidth() / ((controller.getLabyrinthWidth() * 2) + 1);
+		double height = this.canvas.getHeight() / ((controller.getLabyrinthHeight() * 2) + 1);
+		return Math.min(width, height) * this.camera[0];
+	}
+	
 	public int getStartX() {
 		return (int) (((this.canvas.getWidth() - getSizeCase()[0] * ((controller.getLabyrinthWidth() * 2) + 1)) / 2));
 	}
@@ -350,6 +397,30 @@ public class GameGraphicalView extends Application implements GameView {
 		return (int) (((this.canvas.getHeight() - getSizeCase()[1] * ((controller.getLabyrinthHeight() * 2) + 1)) / 2));
 	}
 	
+	/**
+	 * Get the first row or column of tiles visible in the canvas
+	 * @param start (int) The position of the labyrinth in the canvas, in pixels
+	 * @param size (int) The size of a tile, in pixels
+	 * @return (int) The index of the first visible tile (with a margin of two tiles)
+	 */
+	private static int getFirstVisibleTile(int start, int size) {
+		if(size <= 0) return 0;
+		return Math.max(0, Math.floorDiv(-start, size) - 2);
+	}
+	
+	/**
+	 * Get the last row or column of tiles visible in the canvas
+	 * @param start (int) The position of the labyrinth in the canvas, in pixels
+	 * @param size (int) The size of a tile, in pixels
+	 * @param canvasSize (double) The size of the canvas, in pixels
+	 * @param count (int) The number of rows or columns of tiles
+	 * @return (int) The index of the last visible tile (with a margin of two tiles), -1 if no tile is visible
+	 */
+	private static int getLastVisibleTile(int start, int size, double canvasSize, int count) {
+		if(size <= 0) return -1;
+		return Math.min(count - 1, Math.floorDiv((int) Math.ceil(canvasSize) - start, size) + 2);
+	}
+	
 	public void draw(long time, long timeOffset, Image brick, Image crossed, Image start, Image background, Image current, Image frontier, Image player, ResourceBundle locales) {
 		int widthCase = getSizeCase()[0];
 		int heightCase = getSizeCase()[1];
@@ -397,7 +468,7 @@ public class GameGraphicalView extends Application implements GameView {
 				offsetYPlayer = 0;
 			}
 			
-			this.moveAnimDir.entrySet().stream().findFirst().get().setValue(moveOffset + (((double) timeOffset / 1000000) / this.durationAnimation));
+			this.moveAnimDir.entrySet().stream().findFirst().get().setValue(moveOffset + (((double) timeOffset / 1000000) / this.getAnimationDuration()));
 			
 			if(moveOffset > 1.0) {
 				this.moveAnimDir.remove(this.moveAnimDir.entrySet().stream().findFirst().get().getKey());
@@ -415,129 +486,186 @@ public class GameGraphicalView extends Application implements GameView {
 		int startY = (int) (getStartY()  + this.camera[2]);
 		
 		GraphicsContext gc = this.canvas.getGraphicsContext2D();
+		this.metrics.startPhase(FrameMetrics.Phase.BACKGROUND);
 		gc.clearRect(0, 0, this.canvas.getWidth(), this.canvas.getHeight());
 		
-		for(int i = 0; i < heightGrid; i += background.getHeight()) {
-			for(int j = 0; j < widthGrid; j += background.getWidth()) {
-				double widthImage = background.getWidth();
-				double heightImage = background.getHeight();
-				
-				if(j + widthImage >= widthGrid) {
-					widthImage = widthGrid - j;
-				}
-				
-				if(i + heightImage >= heightGrid) {
-					heightImage = heightGrid - i;
+		if(widthCase < MazeOverview.MAX_TILE_SIZE) {
+			// The tiles are too small to see their images : one pixel per tile, the player is a square drawn over the overview
+			double tileSize = this.getTileSize();
+			double x = (this.canvas.getWidth() - tileSize * ((controller.getLabyrinthWidth() * 2) + 1)) / 2 + this.camera[1];
+			double y = (this.canvas.getHeight() - tileSize * ((controller.getLabyrinthHeight() * 2) + 1)) / 2 + this.camera[2];
+			double playerSize = Math.max(tileSize, MazeOverview.MAX_TILE_SIZE);
+			
+			this.mazeLayer.hide();
+			this.mazeOverview.update(this.controller, tileSize, currentPlayerPosition, x, y, this.metrics);
+			
+			this.metrics.startPhase(FrameMetrics.Phase.CELLS);
+			gc.setFill(Color.RED);
+			gc.fillRect(x + tileSize * (currentPlayerPosition.getX() * 2 + 1 - offsetXPlayer) + (tileSize - playerSize) / 2, y + tileSize * (currentPlayerPosition.getY() * 2 + 1 - offsetYPlayer) + (tileSize - playerSize) / 2, playerSize, playerSize);
+		} else if(MazeLayer.fits(widthCase, heightCase, controller.getLabyrinthWidth(), controller.getLabyrinthHeight())) {
+			// Only the changed cells are drawn in the layer, the player is drawn over it
+			this.mazeOverview.hide();
+			this.mazeLayer.update(this.controller, widthCase, heightCase, currentPlayerPosition, startX, startY, this.metrics);
+			this.metrics.startPhase(FrameMetrics.Phase.CELLS);
+			this.metrics.countImages(1);
+			this.drawPlayer(gc, player, (double) widthCase * (currentPlayerPosition.getX() * 2 + 1) + startX - offsetXPlayer * widthCase, heightCase * (currentPlayerPosition.getY() * 2 + 1) + startY - offsetYPlayer * heightCase, widthCase, heightCase, currentPlayerDirection, moveOffset);
+		} else {
+			this.mazeOverview.hide();
+			this.mazeLayer.hide();
+			
+			// Only the tiles in the canvas are drawn (the player can be drawn up to two tiles away from its cell)
+			int firstRow = getFirstVisibleTile(startY, heightCase);
+			int lastRow = getLastVisibleTile(startY, heightCase, this.canvas.getHeight(), controller.getLabyrinthHeight() * 2 + 1);
+			int firstColumn = getFirstVisibleTile(startX, widthCase);
+			int lastColumn = getLastVisibleTile(startX, widthCase, this.canvas.getWidth(), controller.getLabyrinthWidth() * 2 + 1);
+			
+			if(lastRow >= firstRow && lastColumn >= firstColumn) {
+				int left = Math.max(0, -startX);
+				int top = Math.max(0, -startY);
+				this.metrics.countImages(MazeLayer.drawBackground(gc, background, left, top, Math.min(widthGrid, (int) this.canvas.getWidth() - startX) - left, Math.min(heightGrid, (int) this.canvas.getHeight() - startY) - top, startX, startY));
+			}
+			
+			int labyrinthWidth = controller.getLabyrinthWidth();
+			int labyrinthHeight = controller.getLabyrinthHeight();
+			byte[] junctions = controller.getJunctions();
+			int playerIndex = currentPlayerPosition.getY() * labyrinthWidth + currentPlayerPosition.getX();
+			int endIndex = controller.getEndPosition().getY() * labyrinthWidth + controller.getEndPosition().getX();
+			
+			int count = 0;
+			
+			this.metrics.startPhase(FrameMetrics.Phase.WALLS);
+			
+			for(int i = firstRow; i <= lastRow; i++) {
+				for(int j = firstColumn; j <= lastColumn; j++) {
+					if(MazeLayer.isWallTile(junctions, labyrinthWidth, labyrinthHeight, j, i)) {
+						gc.drawImage(brick, (double) widthCase * j + startX, heightCase * i + startY, widthCase, heightCase);
+						count++;
+					}
 				}
-				
-				gc.drawImage(background, 0, 0, widthImage, heightImage, j + startX, i + startY, widthImage, heightImage);
 			}
-		}
-		
-		CellValue[][][] values = this.controller.getAllCellsAround();
-		
-		for(int i = 0; i < controller.getLabyrinthHeight() * 2 + 1; i++) {
-			for(int j = 0; j < controller.getLabyrinthWidth() * 2 + 1; j++) {
-				if(j == controller.getLabyrinthWidth() * 2 || i == controller.getLabyrinthHeight() * 2) {
-					gc.drawImage(brick, (double) widthCase * j + startX, heightCase * i + startY, widthCase, heightCase);
-				} else {
-					Position pos = new Position(j / 2, i / 2);
-					Cell c = controller.getCell(pos);
-					CellValue[] value = values[pos.getY()][pos.getX()];
+			
+			this.metrics.startPhase(FrameMetrics.Phase.CELLS);
+			
+			// The cells are the tiles with odd coordinates
+			for(int i = firstRow | 1; i <= lastRow; i += 2) {
+				for(int j = firstColumn | 1; j <= lastColumn; j += 2) {
+					int index = (i / 2) * labyrinthWidth + j / 2;
+					CellValue value = controller.getCellValue(index);
+					Image image = null;
 					
-					if(i == 0 || j == 0 || ((i + 1) % 2 == 0 && j % 2 == 0 && value[0] == CellValue.WALL) || ((j % 2 == 0 && i % 2 == 0) && value[2] == CellValue.WALL) || (i % 2 == 0 && value[1] == CellValue.WALL)) {
-						gc.drawImage(brick, (double) widthCase * j + startX, heightCase * i + startY, widthCase, heightCase);
-					} else if((i + 1) % 2 == 0 && (j + 1) % 2 == 0) {
-						if(pos.equals(currentPlayerPosition)) {
-							int numImageY = 1;
-							int numImageX = 1;
-							
-							switch(currentPlayerDirection) {
-								case NORTH:
-									numImageY = 4;
-									break;
-								case SOUTH:
-									numImageY = 1;
-									break;
-								case EAST:
-									numImageY = 3;
-									break;
-								case WEST:
-									numImageY = 2;
-									break;
-							}
-							
-							if(moveOffset >= 0.0 && moveOffset < 1.0) {
-								if(this.frameAnimate >= 0 && this.frameAnimate <= 30) {
-									numImageX = 4;
-									this.frameAnimate++;
-								} else if(this.frameAnimate > 30 && this.frameAnimate <= 60) {
-									numImageX = 2;
-									this.frameAnimate++;
-								} else {
-									this.frameAnimate = 0;
-								}
-							}
-							
-							gc.drawImage(player, 48 * (numImageX - 1), 56 * (numImageY - 1) + 8 * numImageY, 48, 56, (double) widthCase * j + startX - offsetXPlayer * widthCase, heightCase * i + startY - offsetYPlayer * heightCase, widthCase, heightCase);
-						} else if(pos.equals(controller.getEndPosition())) {
-							gc.drawImage(start, (double) widthCase * j + startX, heightCase * i + startY, widthCase, heightCase);
-						} else {
-							if(c.getValue() == CellValue.WALL) {
-								gc.drawImage(brick, (double) widthCase * j + startX, heightCase * i + startY, widthCase, heightCase);
-							}
-							
-							if(c.getValue() == CellValue.CROSSED) {
-								gc.drawImage(crossed, (double) widthCase * j + startX, heightCase * i + startY, widthCase, heightCase);
-							}
-							
-							if(c.getValue() == CellValue.CURRENT) {
-								gc.drawImage(current, (double) widthCase * j + startX, heightCase * i + startY, widthCase, heightCase);
-							}
-							
-							if(c.getValue() == CellValue.FRONTIER) {
-								gc.drawImage(frontier, (double) widthCase * j + startX, heightCase * i + startY, widthCase, heightCase);
-							}
-						}
+					if(index == playerIndex) {
+						this.drawPlayer(gc, player, (double) widthCase * j + startX - offsetXPlayer * widthCase, heightCase * i + startY - offsetYPlayer * heightCase, widthCase, heightCase, currentPlayerDirection, moveOffset);
+						count++;
+					} else if(index == endIndex) {
+						image = start;
+					} else if(value == CellValue.WALL) {
+						image = brick;
+					} else if(value == CellValue.CROSSED) {
+						image = crossed;
+					} else if(value == CellValue.CURRENT) {
+						image = current;
+					} else if(value == CellValue.FRONTIER) {
+						image = frontier;
+					}
+					
+					if(image != null) {
+						gc.drawImage(image, (double) widthCase * j + startX, heightCase * i + startY, widthCase, heightCase);
+						count++;
 					}
 				}
 			}
+			
+			this.metrics.countImages(count);
 		}
 		
-		Text text = new Text("");
-		text.setFont(new Font(45));
-		gc.setTextBaseline(VPos.CENTER);
+		this.metrics.startPhase(FrameMetrics.Phase.TEXT);
+		
+		String message = null;
+		double fontSize = 45;
 		
 		if(controller.searchingPath()) {
-			text.setText(locales.getString("searchingPath"));
+			message = locales.getString("searchingPath");
 		} else if(!playerMoved && displayInfoStart) {
-			text.setText(locales.getString("infos"));
-			text.setFont(new Font(30));
+			message = locales.getString("infos");
+			fontSize = 30;
 		} else if(controller.isGoalAchieved()) {
-			text.setText(locales.getString("exitFound"));
+			message = locales.getString("exitFound");
 		} else if(controller.isPlayerBlocked()) {
-			text.setText(locales.getString("blocked"));
+			message = locales.getString("blocked");
 		}
 		
-		int widthText = (int) text.getLayoutBounds().getWidth();
-		int heightText = (int) text.getLayoutBounds().getHeight();
+		this.hudMessage.draw(gc, message, fontSize, this.canvas.getWidth(), this.canvas.getHeight());
+	}
+	
+	/**
+	 * Draw the measures of the rendering over the labyrinth, at the top left of the canvas
+	 */
+	private void drawMetrics() {
+		GraphicsContext gc = this.canvas.getGraphicsContext2D();
+		String[] lines = this.metrics.toString().split(System.lineSeparator());
+		
+		gc.setFill(Color.rgb(0, 0, 0, 0.65));
+		gc.fillRect(5, 5, 240, lines.length * 15 + 10);
+		gc.setFill(Color.WHITE);
+		gc.setFont(METRICS_FONT);
+		gc.setTextBaseline(VPos.TOP);
 		
-		if(widthText * 1.25 >= this.canvas.getWidth()) {
-			text.setFont(new Font(text.getFont().getSize() / ((widthText * 1.25 / this.canvas.getWidth() * 1.25))));
+		for(int i = 0; i < lines.length; i++) {
+			gc.fillText(lines[i], 10, 10 + i * 15);
+		}
+	}
+	
+	/**
+	 * Get the measures of the rendering of the frames ({@link GameController#getFrameMetrics()})
+	 * @return ({@link FrameMetrics}) The measures, updated at each frame
+	 */
+	public FrameMetrics getMetrics() {
+		return this.metrics;
+	}
+	
+	/**
+	 * Draw the player sprite, animated while it moves
+	 * @param gc (GraphicsContext) The graphics context
+	 * @param player (Image) The sprite sheet of the player
+	 * @param x (double) The abscissa where to draw the player
+	 * @param y (double) The ordinate where to draw the player
+	 * @param width (int) The width of a tile
+	 * @param height (int) The height of a tile
+	 * @param direction ({@link Direction}) The direction of the player
+	 * @param moveOffset (double) The progression of the move animation (between 0 and 1 while moving)
+	 */
+	private void drawPlayer(GraphicsContext gc, Image player, double x, double y, int width, int height, Direction direction, double moveOffset) {
+		int numImageY = 1;
+		int numImageX = 1;
+		
+		switch(direction) {
+			case NORTH:
+				numImageY = 4;
+				break;
+			case SOUTH:
+				numImageY = 1;
+				break;
+			case EAST:
+				numImageY = 3;
+				break;
+			case WEST:
+				numImageY = 2;
+				break;
 		}
 		
-		gc.setFont(new Font(text.getFont().getSize()));
-		
-		if(!text.getText().trim().equals("")) {
-			widthText = (int) text.getLayoutBounds().getWidth();
-			heightText = (int) text.getLayoutBounds().getHeight();
-			
-			gc.setFill(Color.rgb(125, 125, 125, 0.65));
-			gc.fillRoundRect((this.canvas.getWidth() - widthText * 1.25) / 2, (this.canvas.getHeight() - heightText * 1.25) / 2, widthText * 1.25, heightText * 1.25, 5, 5);
-			
-			gc.setFill(Color.WHITE);
-			gc.fillText(text.getText(), (this.canvas.getWidth() - widthText) / 2, this.canvas.getHeight() / 2);
+		if(moveOffset >= 0.0 && moveOffset < 1.0) {
+			if(this.frameAnimate >= 0 && this.frameAnimate <= 30) {
+				numImageX = 4;
+				this.frameAnimate++;
+			} else if(this.frameAnimate > 30 && this.frameAnimate <= 60) {
+				numImageX = 2;
+				this.frameAnimate++;
+			} else {
+				this.frameAnimate = 0;
+			}
 		}
+		
+		gc.drawImage(player, 48 * (numImageX - 1), 56 * (numImageY - 1) + 8 * numImageY, 48, 56, x, y, width, height);
 	}
 	
 	public void stopDraw() {
@@ -582,11 +710,20 @@ public class GameGraphicalView extends Application implements GameView {
 		
 		if(moveSucceeded) {
 			this.playerMoved = true;
-			if(!this.controller.getPlayerPosition().equals(this.prevPosition)) this.moveAnimDir.put(new AbstractMap.SimpleEntry<>(controller.getPlayerPosition(), controller.getPlayerDirection()), 0.0);
+			if(!this.controller.getPlayerPosition().equals(this.prevPosition) && this.getAnimationDuration() >= MIN_ANIMATION_DURATION) this.moveAnimDir.put(new AbstractMap.SimpleEntry<>(controller.getPlayerPosition(), controller.getPlayerDirection()), 0.0);
 			this.prevPosition = controller.getPlayerPosition();
 		}
 	}
 	
+	/**
+	 * Get the duration of the animation of a move : not longer than the time between two moves of the auto player
+	 * @return (double) The duration, in milliseconds
+	 */
+	private double getAnimationDuration() {
+		if(!this.controller.isAutoPlayer()) return this.durationAnimation;
+		return Math.min(this.durationAnimation, this.controller.getGameLoop().getTickPeriod());
+	}
+	
 	public void stopWin() {
 		if(this.timelineWin != null) this.timelineWin.stop();
 	}
@@ -634,12 +771,22 @@ public class GameGraphicalView extends Application implements GameView {
 	
 	private static class CanvasPane extends Pane {
 	    private final Canvas canvas;
+	    private final Canvas layer;
+	    private final ImageView overview;
 
 	    public CanvasPane(double width, double height) {
 	    	this.setWidth(width);
 	    	this.setHeight(height);
 	    	this.canvas = new Canvas(width, height);
-	    	this.getChildren().addAll(this.canvas);
+	    	this.layer = new Canvas();
+	    	this.overview = new ImageView();
+	    	this.getChildren().addAll(this.overview, this.layer, this.canvas);
+	    	
+	    	// The layer is bigger than the pane when zoomed
+	    	Rectangle clip = new Rectangle();
+	    	clip.widthProperty().bind(this.widthProperty());
+	    	clip.heightProperty().bind(this.heightProperty());
+	    	this.setClip(clip);
 	    	
 	    	this.widthProperty().addListener(new ChangeListener<Number>() {
 				@Override
@@ -659,5 +806,13 @@ public class GameGraphicalView extends Application implements GameView {
 		public Canvas getCanvas() {
 			return canvas;
 		}
+		
+		public Canvas getLayer() {
+			return layer;
+		}
+		
+		public ImageView getOverview() {
+			return overview;
+		}
 	}
 }
\ No newline at end of file
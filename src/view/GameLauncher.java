@@ -1,7 +1,12 @@
 package view;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 
 import controller.GameController;
 import javafx.application.Application;
@@ -24,7 +29,11 @@ import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import model.GenerationAlgorithmStrategy;
+import model.GenerationService;
+import model.GenerationService.GenerationTask;
 import model.Labyrinth;
+import model.LabyrinthCache;
+import model.LabyrinthSnapshot;
 import model.SolvingAlgorithmStrategy;
 import model.generationAlgorithm.AldousBroder;
 import model.generationAlgorithm.BinaryTree;
@@ -39,8 +48,10 @@ import model.generationAlgorithm.TestPathfinding2;
 import model.generationAlgorithm.TestPathfinding3;
 import model.generationAlgorithm.Wilson;
 import model.solvingAlgorithm.AStar;
+import model.solvingAlgorithm.BidirectionalSearch;
 import model.solvingAlgorithm.BreadthFirstSearch;
 import model.solvingAlgorithm.Dijkstra;
+import model.util.Position;
 
 /**
  * The launcher with settings
@@ -59,7 +70,14 @@ public class GameLauncher extends Application {
 	private int level = 1;
 	private boolean displayInfoStart = true;
 	private boolean stepByStep = false;
-	private Thread stepByStepThread;
+	private GenerationService generationService = new GenerationService();
+	private GenerationTask stepByStepGeneration;
+	// Marathon mode: the next levels are generated in background while the current level is played
+	private static final int PREFETCH_LEVELS = 2;
+	private Map<String, GenerationTask> prefetchedLevels = new HashMap<>(); // Key: see levelKey(int, int, long)
+	// The levels already generated, restored when they are played again (retry, same settings)
+	private static final long MAX_CACHED_CELLS = 1L << 22;
+	private LabyrinthCache levelCache = new LabyrinthCache(MAX_CACHED_CELLS);
 	
 	public GameLauncher(int gameMode) {
 		this.gameMode = gameMode;
@@ -150,7 +168,7 @@ public class GameLauncher extends Application {
 		ComboBox<String> algorithmsSolve = new ComboBox<>();
 		HBox.setMargin(algorithmsSolve, new Insets(5, 5, 5, 5));
 		ObservableList<String> algorithmsSolveList = FXCollections.observableArrayList();
-		algorithmsSolveList.addAll("A-Star", "Dijkstra", "Breadth First Search");
+		algorithmsSolveList.addAll("A-Star", "Dijkstra", "Breadth First Search", "Bidirectional Breadth First Search");
 		algorithmsSolve.setItems(algorithmsSolveList);
 		algorithmsSolve.getSelectionModel().select(0);
 		hboxAlgorithmSolve.getChildren().addAll(algorithmsSolve);
@@ -267,12 +285,16 @@ public class GameLauncher extends Application {
 					case "Dijkstra":
 						this.algorithmSolve = new Dijkstra(stepByStepSolve);
 						break;
+					case "Bidirectional Breadth First Search":
+						this.algorithmSolve = new BidirectionalSearch(stepByStepSolve);
+						break;
 					default:
 						this.algorithmSolve = new AStar(stepByStepSolve);
 						break;
 				}
 			}
 			
+			this.cancelPrefetch();
 			this.launchGame();
 			stage.close();
 		});
@@ -309,14 +331,26 @@ public class GameLauncher extends Application {
 	}
 	
 	private void launchGame() {
-		Labyrinth labyrinth;
+		Labyrinth labyrinth = null;
 		GameView game;
+		boolean enableAutoPlayer = this.gameMode == 2;
+		boolean cached = false;
+		
+		if(!stepByStep) {
+			LabyrinthSnapshot snapshot = this.levelCache.get(cacheKey(this.width, this.height, this.seed));
+			
+			if(snapshot != null) {
+				labyrinth = snapshot.restore(this.algorithm, this.algorithmSolve, enableAutoPlayer);
+				cached = true;
+			}
+		}
+		
+		if(labyrinth == null && this.gameMode == 1) labyrinth = this.takePrefetchedLevel(this.width, this.height, this.seed);
+		if(labyrinth == null) labyrinth = new Labyrinth(this.width, this.height, this.algorithm, this.algorithmSolve, enableAutoPlayer);
 		
 		if(this.gameMode == 2) {
-			labyrinth = new Labyrinth(this.width, this.height, this.algorithm, this.algorithmSolve, true);
 			game = new GameGraphicalView(this, displayInfoStart, 0);
 		} else {
-			labyrinth = new Labyrinth(this.width, this.height, this.algorithm, this.algorithmSolve, false);
 			game = new GameGraphicalView(this, displayInfoStart, this.level);
 		}
 		
@@ -327,23 +361,92 @@ public class GameLauncher extends Application {
 		}
 		
 		if(stepByStep) {
-			this.stepByStepThread = new Thread(() -> {
-				labyrinth.generate(this.seed, true);
-			});
-
-			this.stepByStepThread.setDaemon(true);
-			this.stepByStepThread.start();
-		} else {
+			this.stepByStepGeneration = this.generationService.submit(labyrinth, this.seed, true);
+		} else if(!labyrinth.isGenerationFinished()) {
 			labyrinth.generate(this.seed, false);
 		}
 		
+		if(!stepByStep && !cached) this.levelCache.put(labyrinth); // Before the player moves
+		if(this.gameMode == 1 && !stepByStep) this.prefetch();
+		
 		game.setController(new GameController(labyrinth, game));
 		game.run();
 	}
 	
+	/**
+	 * Get the labyrinth of a level of the marathon mode, if it was prefetched (waiting for the end of its generation in background)
+	 * @param width (int) The width of the level
+	 * @param height (int) The height of the level
+	 * @param seed (long) The seed of the level
+	 * @return ({@link Labyrinth}) The labyrinth, or null if the level was not prefetched
+	 */
+	private Labyrinth takePrefetchedLevel(int width, int height, long seed) {
+		GenerationTask task = this.prefetchedLevels.remove(levelKey(width, height, seed));
+		
+		if(task != null) {
+			try {
+				return task.get();
+			} catch(CancellationException | ExecutionException e) {
+				e.printStackTrace();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Start the generation in background of the levels that can follow the current level of the marathon mode :
+	 * the next {@link #PREFETCH_LEVELS} levels (see {@link #progress()}) and the level given by {@link #retry()}, if they are not in the cache<br>
+	 * The prefetched levels that can no longer follow are cancelled
+	 */
+	private void prefetch() {
+		Map<String, GenerationTask> levels = new HashMap<>();
+		
+		for(int i = 1; i <= PREFETCH_LEVELS; i++) {
+			this.prefetchLevel(levels, this.width + i, this.height + i, this.seed + i);
+		}
+		
+		this.prefetchLevel(levels, this.width, this.height, this.seed + 1);
+		this.cancelPrefetch();
+		this.prefetchedLevels = levels;
+	}
+	
+	private void prefetchLevel(Map<String, GenerationTask> levels, int width, int height, long seed) {
+		if(this.levelCache.contains(cacheKey(width, height, seed))) return;
+		
+		String key = levelKey(width, height, seed);
+		GenerationTask task = this.prefetchedLevels.remove(key);
+		
+		if(task == null) {
+			task = this.generationService.submit(new Labyrinth(width, height, this.algorithm, this.algorithmSolve, false), seed, false);
+		}
+		
+		levels.put(key, task);
+	}
+	
+	/**
+	 * Cancel the generation of all the prefetched levels<br>
+	 * Must be called when the settings change
+	 */
+	private void cancelPrefetch() {
+		for(Iterator<GenerationTask> it = this.prefetchedLevels.values().iterator(); it.hasNext();) {
+			it.next().cancel(false);
+			it.remove();
+		}
+	}
+	
+	private static String levelKey(int width, int height, long seed) {
+		return width + "x" + height + ":" + seed;
+	}
+	
+	private LabyrinthSnapshot.Key cacheKey(int width, int height, long seed) {
+		return new LabyrinthSnapshot.Key(this.algorithm.getClass(), width, height, new Position(0, 0), new Position(width - 1, height - 1), seed);
+	}
+	
 	public void retry() {
 		stopStepByStep();
-		this.algorithm.restart();
 		this.displayInfoStart = false;
 		if(this.gameMode == 1) this.seed++;
 		this.launchGame();
@@ -351,12 +454,12 @@ public class GameLauncher extends Application {
 	
 	public void exit() {
 		stopStepByStep();
+		cancelPrefetch();
 		// TODO: highscore ladder
 	}
 	
 	public void progress() {
 		stopStepByStep();
-		this.algorithm.restart();
 		this.displayInfoStart = false;
 		
 		if(this.gameMode == 1) {
@@ -369,11 +472,10 @@ public class GameLauncher extends Application {
 	}
 	
 	public void stopStepByStep() {
-		if(this.stepByStepThread != null) {
+		if(this.stepByStepGeneration != null) {
 			try {
-				this.algorithm.stop();
-				this.stepByStepThread.join();
-				this.stepByStepThread = null;
+				this.stepByStepGeneration.cancelAndWait();
+				this.stepByStepGeneration = null;
 			} catch (InterruptedException e) {
 				e.printStackTrace();
 			}
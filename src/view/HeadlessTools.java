@@ -0,0 +1,67 @@
+package view;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Helpers shared by the tools running without the graphical interface ({@link BatchGenerator}, {@link AutoPlayBenchmark}) : parsing of their arguments and statistics of their measures
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+final class HeadlessTools {
+	private HeadlessTools() {}
+	
+	/**
+	 * Parse the arguments of a tool, given as <code>--name=value</code>
+	 * @param args (String[]) The arguments
+	 * @param names (String...) The names of the arguments accepted by the tool (with the leading dashes)
+	 * @return (Map&lt;String, String&gt;) The value of each argument given, by name (the last one if an argument is given several times)
+	 * @throws IllegalArgumentException If an argument is not accepted by the tool
+	 */
+	static Map<String, String> parseArguments(String[] args, String... names) {
+		Map<String, String> arguments = new HashMap<>();
+		
+		for(String arg : args) {
+			int separator = arg.indexOf('=');
+			String name = separator >= 0 ? arg.substring(0, separator) : arg;
+			String value = separator >= 0 ? arg.substring(separator + 1) : "";
+			boolean accepted = false;
+			
+			for(String accept : names) {
+				if(accept.equals(name)) accepted = true;
+			}
+			
+			if(!accepted) throw new IllegalArgumentException("Unknown argument: " + arg);
+			arguments.put(name, value);
+		}
+		
+		return arguments;
+	}
+	
+	/**
+	 * Parse a range of seeds, <code>first-last</code> (inclusive) or a single seed<br>
+	 * The first seed can be negative : the dash separating the seeds is searched after the first character
+	 * @param value (String) The range
+	 * @return (long[]) The first and the last seed
+	 * @throws NumberFormatException If a seed is not a number
+	 */
+	static long[] parseSeeds(String value) {
+		int dash = value.indexOf('-', 1);
+		long firstSeed = Long.parseLong(dash >= 0 ? value.substring(0, dash) : value);
+		long lastSeed = dash >= 0 ? Long.parseLong(value.substring(dash + 1)) : firstSeed;
+		return new long[] {firstSeed, lastSeed};
+	}
+	
+	/**
+	 * Get a percentile of measures (nearest-rank method)
+	 * @param sorted (long[]) The measures, sorted in ascending order, at least one
+	 * @param percentile (double) The percentile, between 0 and 100
+	 * @return (long) The measure
+	 * @see <a href="https://en.wikipedia.org/wiki/Percentile#The_nearest-rank_method">https://en.wikipedia.org/wiki/Percentile#The_nearest-rank_method</a>
+	 */
+	static long percentile(long[] sorted, double percentile) {
+		int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+		return sorted[Math.min(Math.max(rank - 1, 0), sorted.length - 1)];
+	}
+}
\ No newline at end of file
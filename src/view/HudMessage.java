@@ -0,0 +1,85 @@
+package view;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * The message drawn at the center of the game (searching a path, instructions, exit found, blocked)<br>
+ * The font and the size of the message are computed only when the message or the width of the canvas change :
+ * drawing the same message again allocates nothing
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+class HudMessage {
+	private static final Color BACKGROUND = Color.rgb(125, 125, 125, 0.65);
+	private static final double MARGIN = 1.25; // Size of the background relative to the size of the message
+	
+	private final Text text = new Text(); // Used to measure the message
+	private String message;
+	private double fontSize;
+	private double canvasWidth = -1;
+	private Font font;
+	private int width;
+	private int height;
+	
+	/**
+	 * Draw a message at the center of the canvas, with a font reduced if the message is wider than the canvas
+	 * @param gc (GraphicsContext) The graphics context of the canvas
+	 * @param message (String) The message, null or blank to draw nothing
+	 * @param fontSize (double) The size of the font of the message, before its reduction
+	 * @param canvasWidth (double) The width of the canvas
+	 * @param canvasHeight (double) The height of the canvas
+	 */
+	void draw(GraphicsContext gc, String message, double fontSize, double canvasWidth, double canvasHeight) {
+		if(message == null) return;
+		
+		if(!message.equals(this.message) || fontSize != this.fontSize || canvasWidth != this.canvasWidth) {
+			this.layout(message, fontSize, canvasWidth);
+		}
+		
+		if(this.font == null) return;
+		
+		gc.setFont(this.font);
+		gc.setTextBaseline(VPos.CENTER);
+		gc.setFill(BACKGROUND);
+		gc.fillRoundRect((canvasWidth - this.width * MARGIN) / 2, (canvasHeight - this.height * MARGIN) / 2, this.width * MARGIN, this.height * MARGIN, 5, 5);
+		
+		gc.setFill(Color.WHITE);
+		gc.fillText(message, (canvasWidth - this.width) / 2, canvasHeight / 2);
+	}
+	
+	/**
+	 * Compute the font and the size of a message
+	 * @param message (String) The message
+	 * @param fontSize (double) The size of the font of the message, before its reduction
+	 * @param canvasWidth (double) The width of the canvas
+	 */
+	private void layout(String message, double fontSize, double canvasWidth) {
+		this.message = message;
+		this.fontSize = fontSize;
+		this.canvasWidth = canvasWidth;
+		
+		if(message.trim().isEmpty()) {
+			this.font = null;
+			return;
+		}
+		
+		this.font = new Font(fontSize);
+		this.text.setText(message);
+		this.text.setFont(this.font);
+		
+		int width = (int) this.text.getLayoutBounds().getWidth();
+		
+		if(width * MARGIN >= canvasWidth) {
+			this.font = new Font(fontSize / (width * MARGIN / canvasWidth * MARGIN));
+			this.text.setFont(this.font);
+		}
+		
+		this.width = (int) this.text.getLayoutBounds().getWidth();
+		this.height = (int) this.text.getLayoutBounds().getHeight();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,314 @@
+package view;
+
+import controller.GameController;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import model.CellValue;
+import model.Labyrinth;
+import model.util.IntList;
+import model.util.Position;
+
+/**
+ * The retained drawing of a labyrinth : the background, the walls and the cells are drawn once in a dedicated {@link Canvas},
+ * moved with the camera, then only the cells whose drawing changed are drawn again at each frame : the cells changed since the last frame are
+ * read from the log of the labyrinth ({@link Labyrinth#getChangedCells(long, long, IntList)}), all the cells are compared only if the log is incomplete<br>
+ * The whole layer is drawn again only when the size of the tiles changes (zoom, resize) or when the walls change (generation)<br>
+ * The player is not drawn in the layer (its cell is left empty) : it is animated over the layer
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+class MazeLayer {
+	/**
+	 * The maximum width and height of the layer, in pixels : beyond, the labyrinth must be drawn directly
+	 */
+	static final int MAX_SIZE = 4096;
+	// What is drawn in a cell, in addition to the ordinals of CellValue
+	static final byte END = 5;
+	static final byte PLAYER = 6;
+	static final CellValue[] VALUES = CellValue.values();
+	
+	private final Canvas canvas;
+	private final Image brick;
+	private final Image crossed;
+	private final Image end;
+	private final Image background;
+	private final Image current;
+	private final Image frontier;
+	private int tileWidth = -1;
+	private int tileHeight = -1;
+	private long wallsVersion;
+	private long valuesVersion;
+	private int playerIndex = -1;
+	private byte[] drawn; // What is drawn in each cell, null if the layer must be drawn again
+	private final IntList changed = new IntList(); // The cells changed since the last frame
+	
+	/**
+	 * Construct a new layer
+	 * @param canvas (Canvas) The canvas of the layer, resized to the labyrinth
+	 * @param brick (Image) The image of the walls
+	 * @param crossed (Image) The image of the crossed cells
+	 * @param end (Image) The image of the end position
+	 * @param background (Image) The background image, repeated
+	 * @param current (Image) The image of the current cells (step-by-step algorithms)
+	 * @param frontier (Image) The image of the frontier cells (step-by-step algorithms)
+	 */
+	MazeLayer(Canvas canvas, Image brick, Image crossed, Image end, Image background, Image current, Image frontier) {
+		this.canvas = canvas;
+		this.brick = brick;
+		this.crossed = crossed;
+		this.end = end;
+		this.background = background;
+		this.current = current;
+		this.frontier = frontier;
+		this.canvas.setMouseTransparent(true);
+	}
+	
+	/**
+	 * Inform if a labyrinth can be drawn in the layer
+	 * @param tileWidth (int) The width of a tile, in pixels
+	 * @param tileHeight (int) The height of a tile, in pixels
+	 * @param width (int) The width of the labyrinth, in cells
+	 * @param height (int) The height of the labyrinth, in cells
+	 * @return (boolean) true if the layer is not too big, false otherwise
+	 */
+	static boolean fits(int tileWidth, int tileHeight, int width, int height) {
+		return tileWidth > 0 && tileHeight > 0 && (long) tileWidth * (2 * width + 1) <= MAX_SIZE && (long) tileHeight * (2 * height + 1) <= MAX_SIZE;
+	}
+	
+	/**
+	 * Update the drawing of the layer, then show it at the position passed in parameter
+	 * @param controller (GameController) The controller of the labyrinth
+	 * @param tileWidth (int) The width of a tile, in pixels
+	 * @param tileHeight (int) The height of a tile, in pixels
+	 * @param playerPosition ({@link Position}) The position of the cell where the player is drawn
+	 * @param x (double) The abscissa of the labyrinth in the parent of the layer
+	 * @param y (double) The ordinate of the labyrinth in the parent of the layer
+	 * @param metrics ({@link FrameMetrics}) The measures of the frame, where the phases and the images drawn are counted
+	 * @return (int) The number of cells drawn
+	 */
+	int update(GameController controller, int tileWidth, int tileHeight, Position playerPosition, double x, double y, FrameMetrics metrics) {
+		int width = controller.getLabyrinthWidth();
+		int height = controller.getLabyrinthHeight();
+		long wallsVersion = controller.getWallsVersion();
+		long valuesVersion = controller.getValuesVersion();
+		int playerIndex = playerPosition.getY() * width + playerPosition.getX();
+		
+		if(this.drawn == null || this.drawn.length != width * height || tileWidth != this.tileWidth || tileHeight != this.tileHeight || wallsVersion != this.wallsVersion) {
+			this.tileWidth = tileWidth;
+			this.tileHeight = tileHeight;
+			this.wallsVersion = wallsVersion;
+			this.drawn = null;
+			metrics.startPhase(FrameMetrics.Phase.WALLS);
+			metrics.countImages(this.drawWalls(controller, width, height));
+		}
+		
+		metrics.startPhase(FrameMetrics.Phase.CELLS);
+		
+		GraphicsContext gc = this.canvas.getGraphicsContext2D();
+		boolean all = this.drawn == null;
+		int count = 0;
+		
+		// Nothing changed since the last frame : no need to compare the cells
+		if(all || valuesVersion != this.valuesVersion || playerIndex != this.playerIndex) {
+			Position endPosition = controller.getEndPosition();
+			int endIndex = endPosition.getY() * width + endPosition.getX();
+			
+			this.changed.clear();
+			
+			if(!all && controller.getChangedCells(this.valuesVersion, valuesVersion, this.changed)) {
+				// Only the cells changed since the last frame, and the cells left and entered by the player
+				this.changed.add(this.playerIndex);
+				this.changed.add(playerIndex);
+				
+				for(int k = 0; k < this.changed.size(); k++) {
+					int i = this.changed.get(k);
+					byte value = getDrawnValue(controller, i, playerIndex, endIndex);
+					
+					if(value != this.drawn[i]) {
+						metrics.countImages(this.drawCell(gc, i % width, i / width, value, true));
+						this.drawn[i] = value;
+						count++;
+					}
+				}
+			} else {
+				if(all) this.drawn = new byte[width * height];
+				
+				for(int i = 0; i < this.drawn.length; i++) {
+					byte value = getDrawnValue(controller, i, playerIndex, endIndex);
+					
+					if(all || value != this.drawn[i]) {
+						metrics.countImages(this.drawCell(gc, i % width, i / width, value, !all));
+						this.drawn[i] = value;
+						count++;
+					}
+				}
+			}
+			
+			this.valuesVersion = valuesVersion;
+			this.playerIndex = playerIndex;
+		}
+		
+		this.canvas.relocate(x, y);
+		this.canvas.setVisible(true);
+		
+		return count;
+	}
+	
+	/**
+	 * Get what is drawn in a cell
+	 * @param controller (GameController) The controller of the labyrinth
+	 * @param index (int) The index of the cell
+	 * @param playerIndex (int) The index of the cell of the player
+	 * @param endIndex (int) The index of the end cell
+	 * @return (byte) {@link #PLAYER}, {@link #END} or the ordinal of the value of the cell
+	 */
+	static byte getDrawnValue(GameController controller, int index, int playerIndex, int endIndex) {
+		if(index == playerIndex) return PLAYER;
+		if(index == endIndex) return END;
+		return (byte) controller.getCellValue(index).ordinal();
+	}
+	
+	/**
+	 * Hide the layer, when the labyrinth is drawn directly
+	 */
+	void hide() {
+		this.canvas.setVisible(false);
+	}
+	
+	/**
+	 * Draw the background and the walls, and resize the layer to the labyrinth
+	 * @param controller (GameController) The controller of the labyrinth
+	 * @param width (int) The width of the labyrinth, in cells
+	 * @param height (int) The height of the labyrinth, in cells
+	 * @return (int) The number of images drawn
+	 */
+	private int drawWalls(GameController controller, int width, int height) {
+		this.canvas.setWidth(this.tileWidth * (2 * width + 1));
+		this.canvas.setHeight(this.tileHeight * (2 * height + 1));
+		
+		GraphicsContext gc = this.canvas.getGraphicsContext2D();
+		gc.clearRect(0, 0, this.canvas.getWidth(), this.canvas.getHeight());
+		int count = drawBackground(gc, this.background, 0, 0, this.tileWidth * 2 * width, this.tileHeight * 2 * height, 0, 0);
+		
+		byte[] junctions = controller.getJunctions();
+		
+		for(int i = 0; i < height * 2 + 1; i++) {
+			for(int j = 0; j < width * 2 + 1; j++) {
+				if(isWallTile(junctions, width, height, j, i)) {
+					this.drawTile(gc, this.brick, j, i);
+					count++;
+				}
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Inform if a tile between the cells is a wall (the cells are the tiles with odd coordinates, see {@link #drawCell(GraphicsContext, int, int, byte, boolean)})
+	 * @param junctions (byte[]) The junctions of the walls of the labyrinth, see {@link model.Labyrinth#getJunctions()}
+	 * @param width (int) The width of the labyrinth, in cells
+	 * @param height (int) The height of the labyrinth, in cells
+	 * @param j (int) The column of the tile
+	 * @param i (int) The row of the tile
+	 * @return (boolean) true if a brick must be drawn, false otherwise
+	 */
+	static boolean isWallTile(byte[] junctions, int width, int height, int j, int i) {
+		if(i == 0 || j == 0 || i == height * 2 || j == width * 2) return true;
+		
+		int junction = junctions[(i / 2) * width + j / 2];
+		
+		if(j % 2 == 0) {
+			return (junction & (i % 2 == 0 ? Labyrinth.JUNCTION_NORTH_WEST : Labyrinth.JUNCTION_WEST)) != 0;
+		}
+		
+		return i % 2 == 0 && (junction & Labyrinth.JUNCTION_NORTH) != 0;
+	}
+	
+	/**
+	 * Draw a cell
+	 * @param gc (GraphicsContext) The graphics context of the layer
+	 * @param x (int) The abscissa of the cell
+	 * @param y (int) The ordinate of the cell
+	 * @param value (byte) What to draw in the cell
+	 * @param clear (boolean) true to draw the background of the cell first (when the cell was already drawn), false otherwise
+	 * @return (int) The number of images drawn
+	 */
+	private int drawCell(GraphicsContext gc, int x, int y, byte value, boolean clear) {
+		int j = 2 * x + 1;
+		int i = 2 * y + 1;
+		int count = 0;
+		
+		if(clear) count += drawBackground(gc, this.background, this.tileWidth * j, this.tileHeight * i, this.tileWidth, this.tileHeight, 0, 0);
+		
+		Image image = null;
+		
+		if(value == END) {
+			image = this.end;
+		} else if(value != PLAYER) {
+			switch(VALUES[value]) {
+				case WALL:
+					image = this.brick;
+					break;
+				case CROSSED:
+					image = this.crossed;
+					break;
+				case CURRENT:
+					image = this.current;
+					break;
+				case FRONTIER:
+					image = this.frontier;
+					break;
+				default:
+					break;
+			}
+		}
+		
+		if(image != null) {
+			this.drawTile(gc, image, j, i);
+			count++;
+		}
+		
+		return count;
+	}
+	
+	private void drawTile(GraphicsContext gc, Image image, int j, int i) {
+		gc.drawImage(image, (double) this.tileWidth * j, this.tileHeight * i, this.tileWidth, this.tileHeight);
+	}
+	
+	/**
+	 * Draw a part of the background of a labyrinth, the background image being repeated from the origin of the labyrinth
+	 * @param gc (GraphicsContext) The graphics context
+	 * @param background (Image) The background image
+	 * @param x (int) The abscissa of the part in the labyrinth, in pixels (positive)
+	 * @param y (int) The ordinate of the part in the labyrinth, in pixels (positive)
+	 * @param width (int) The width of the part, in pixels
+	 * @param height (int) The height of the part, in pixels
+	 * @param originX (int) The abscissa of the origin of the labyrinth in the graphics context
+	 * @param originY (int) The ordinate of the origin of the labyrinth in the graphics context
+	 * @return (int) The number of images drawn
+	 */
+	static int drawBackground(GraphicsContext gc, Image background, int x, int y, int width, int height, int originX, int originY) {
+		int imageWidth = (int) background.getWidth();
+		int imageHeight = (int) background.getHeight();
+		if(imageWidth <= 0 || imageHeight <= 0) return 0;
+		
+		int count = 0;
+		
+		for(int i = y - y % imageHeight; i < y + height; i += imageHeight) {
+			for(int j = x - x % imageWidth; j < x + width; j += imageWidth) {
+				int left = Math.max(j, x);
+				int top = Math.max(i, y);
+				int right = Math.min(j + imageWidth, x + width);
+				int bottom = Math.min(i + imageHeight, y + height);
+				
+				gc.drawImage(background, left - j, top - i, right - left, bottom - top, left + originX, top + originY, right - left, bottom - top);
+				count++;
+			}
+		}
+		
+		return count;
+	}
+}
\ No newline at end of file
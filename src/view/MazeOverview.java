@@ -0,0 +1,238 @@
+package view;
+
+import java.nio.IntBuffer;
+
+import controller.GameController;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import model.util.IntList;
+import model.util.Position;
+
+/**
+ * The drawing of a labyrinth when its tiles are too small to draw their images (level of detail) : each tile is one pixel of an image,
+ * of the average color of the image of the tile, and the image is scaled to the labyrinth in an {@link ImageView}<br>
+ * As in {@link MazeLayer}, the whole image is written again only when the walls change, then only the pixels of the cells whose value changed are written,
+ * read from the log of the changed cells of the labyrinth
+ * @author Eliastik
+ * @version 1.1
+ * @since 17/10/2026
+ */
+class MazeOverview {
+	/**
+	 * The size of a tile, in pixels, under which the labyrinth is drawn as an overview
+	 */
+	static final int MAX_TILE_SIZE = 4;
+	
+	private final ImageView view;
+	private final int[] colors; // Color of each value drawn in a cell (see MazeLayer#getDrawnValue)
+	private final int brickColor;
+	private final int backgroundColor;
+	private WritableImage image;
+	private long wallsVersion;
+	private long valuesVersion;
+	private int playerIndex = -1;
+	private byte[] drawn; // What is drawn in each cell, null if the image must be written again
+	private final IntList changed = new IntList(); // The cells changed since the last frame
+	
+	/**
+	 * Construct a new overview
+	 * @param view (ImageView) The node showing the overview
+	 * @param brick (Image) The image of the walls
+	 * @param crossed (Image) The image of the crossed cells
+	 * @param end (Image) The image of the end position
+	 * @param background (Image) The background image
+	 * @param current (Image) The image of the current cells (step-by-step algorithms)
+	 * @param frontier (Image) The image of the frontier cells (step-by-step algorithms)
+	 */
+	MazeOverview(ImageView view, Image brick, Image crossed, Image end, Image background, Image current, Image frontier) {
+		this.view = view;
+		this.view.setMouseTransparent(true);
+		this.view.setPreserveRatio(false);
+		this.backgroundColor = getAverageColor(background, 0xFF000000);
+		this.brickColor = getAverageColor(brick, this.backgroundColor);
+		
+		this.colors = new int[MazeLayer.PLAYER + 1];
+		
+		for(int i = 0; i < MazeLayer.VALUES.length; i++) {
+			switch(MazeLayer.VALUES[i]) {
+				case WALL:
+					this.colors[i] = this.brickColor;
+					break;
+				case CROSSED:
+					this.colors[i] = getAverageColor(crossed, this.backgroundColor);
+					break;
+				case CURRENT:
+					this.colors[i] = getAverageColor(current, this.backgroundColor);
+					break;
+				case FRONTIER:
+					this.colors[i] = getAverageColor(frontier, this.backgroundColor);
+					break;
+				default:
+					this.colors[i] = this.backgroundColor;
+					break;
+			}
+		}
+		
+		this.colors[MazeLayer.END] = getAverageColor(end, this.backgroundColor);
+		this.colors[MazeLayer.PLAYER] = this.backgroundColor; // The player is drawn over the overview
+	}
+	
+	/**
+	 * Update the image of the overview, then show it at the position and size passed in parameter
+	 * @param controller (GameController) The controller of the labyrinth
+	 * @param tileSize (double) The size of a tile, in pixels (can be less than a pixel)
+	 * @param playerPosition ({@link Position}) The position of the cell where the player is drawn
+	 * @param x (double) The abscissa of the labyrinth in the parent of the overview
+	 * @param y (double) The ordinate of the labyrinth in the parent of the overview
+	 * @param metrics ({@link FrameMetrics}) The measures of the frame, where the phases are counted
+	 * @return (int) The number of cells written
+	 */
+	int update(GameController controller, double tileSize, Position playerPosition, double x, double y, FrameMetrics metrics) {
+		int width = controller.getLabyrinthWidth();
+		int height = controller.getLabyrinthHeight();
+		long wallsVersion = controller.getWallsVersion();
+		long valuesVersion = controller.getValuesVersion();
+		int playerIndex = playerPosition.getY() * width + playerPosition.getX();
+		int count = 0;
+		
+		if(this.image == null || this.image.getWidth() != width * 2 + 1 || this.image.getHeight() != height * 2 + 1) {
+			this.image = new WritableImage(width * 2 + 1, height * 2 + 1);
+			this.view.setImage(this.image);
+			this.drawn = null;
+		}
+		
+		if(this.drawn == null || wallsVersion != this.wallsVersion) {
+			metrics.startPhase(FrameMetrics.Phase.WALLS);
+			this.writeAll(controller, width, height, playerIndex);
+			this.wallsVersion = wallsVersion;
+			count = this.drawn.length;
+		} else if(valuesVersion != this.valuesVersion || playerIndex != this.playerIndex) {
+			metrics.startPhase(FrameMetrics.Phase.CELLS);
+			PixelWriter writer = this.image.getPixelWriter();
+			Position endPosition = controller.getEndPosition();
+			int endIndex = endPosition.getY() * width + endPosition.getX();
+			
+			this.changed.clear();
+			
+			if(controller.getChangedCells(this.valuesVersion, valuesVersion, this.changed)) {
+				this.changed.add(this.playerIndex);
+				this.changed.add(playerIndex);
+				
+				for(int k = 0; k < this.changed.size(); k++) {
+					count += this.writeCell(writer, controller, this.changed.get(k), width, playerIndex, endIndex);
+				}
+			} else {
+				for(int i = 0; i < this.drawn.length; i++) {
+					count += this.writeCell(writer, controller, i, width, playerIndex, endIndex);
+				}
+			}
+		}
+		
+		this.valuesVersion = valuesVersion;
+		this.playerIndex = playerIndex;
+		
+		// Smoothed only when a pixel of the image is shrunk, so that the walls are averaged instead of skipped
+		this.view.setSmooth(tileSize < 1);
+		this.view.setFitWidth(tileSize * (width * 2 + 1));
+		this.view.setFitHeight(tileSize * (height * 2 + 1));
+		this.view.relocate(x, y);
+		this.view.setVisible(true);
+		
+		return count;
+	}
+	
+	/**
+	 * Write the pixel of a cell if what is drawn in the cell changed
+	 * @param writer (PixelWriter) The writer of the image
+	 * @param controller (GameController) The controller of the labyrinth
+	 * @param index (int) The index of the cell
+	 * @param width (int) The width of the labyrinth, in cells
+	 * @param playerIndex (int) The index of the cell of the player
+	 * @param endIndex (int) The index of the end cell
+	 * @return (int) 1 if the pixel was written, 0 otherwise
+	 */
+	private int writeCell(PixelWriter writer, GameController controller, int index, int width, int playerIndex, int endIndex) {
+		byte value = MazeLayer.getDrawnValue(controller, index, playerIndex, endIndex);
+		if(value == this.drawn[index]) return 0;
+		
+		writer.setArgb(2 * (index % width) + 1, 2 * (index / width) + 1, this.colors[value]);
+		this.drawn[index] = value;
+		
+		return 1;
+	}
+	
+	/**
+	 * Hide the overview, when the labyrinth is drawn with the images of the tiles
+	 */
+	void hide() {
+		this.view.setVisible(false);
+	}
+	
+	/**
+	 * Write all the pixels of the image, one row of tiles at a time
+	 * @param controller (GameController) The controller of the labyrinth
+	 * @param width (int) The width of the labyrinth, in cells
+	 * @param height (int) The height of the labyrinth, in cells
+	 * @param playerIndex (int) The index of the cell of the player
+	 */
+	private void writeAll(GameController controller, int width, int height, int playerIndex) {
+		PixelWriter writer = this.image.getPixelWriter();
+		PixelFormat<IntBuffer> format = PixelFormat.getIntArgbInstance();
+		byte[] junctions = controller.getJunctions();
+		Position endPosition = controller.getEndPosition();
+		int endIndex = endPosition.getY() * width + endPosition.getX();
+		int[] row = new int[width * 2 + 1];
+		
+		this.drawn = new byte[width * height];
+		
+		for(int i = 0; i < height * 2 + 1; i++) {
+			for(int j = 0; j < row.length; j++) {
+				if(MazeLayer.isWallTile(junctions, width, height, j, i)) {
+					row[j] = this.brickColor;
+				} else if(i % 2 == 1 && j % 2 == 1) {
+					int index = (i / 2) * width + j / 2;
+					byte value = MazeLayer.getDrawnValue(controller, index, playerIndex, endIndex);
+					row[j] = this.colors[value];
+					this.drawn[index] = value;
+				} else {
+					row[j] = this.backgroundColor;
+				}
+			}
+			
+			writer.setPixels(0, i, row.length, 1, format, row, 0, row.length);
+		}
+	}
+	
+	/**
+	 * Get the average color of an image, drawn over a background color
+	 * @param image (Image) The image
+	 * @param background (int) The background color, in ARGB format
+	 * @return (int) The average color, opaque, in ARGB format
+	 */
+	private static int getAverageColor(Image image, int background) {
+		PixelReader reader = image.getPixelReader();
+		int width = (int) image.getWidth();
+		int height = (int) image.getHeight();
+		if(reader == null || width <= 0 || height <= 0) return background;
+		
+		long red = 0, green = 0, blue = 0;
+		
+		for(int i = 0; i < height; i++) {
+			for(int j = 0; j < width; j++) {
+				int argb = reader.getArgb(j, i);
+				int alpha = argb >>> 24;
+				
+				red += (((argb >> 16) & 0xFF) * alpha + ((background >> 16) & 0xFF) * (255 - alpha)) / 255;
+				green += (((argb >> 8) & 0xFF) * alpha + ((background >> 8) & 0xFF) * (255 - alpha)) / 255;
+				blue += ((argb & 0xFF) * alpha + (background & 0xFF) * (255 - alpha)) / 255;
+			}
+		}
+		
+		long count = (long) width * height;
+		return 0xFF000000 | (int) (red / count) << 16 | (int) (green / count) << 8 | (int) (blue / count);
+	}
+}
\ No newline at end of file